@@ -0,0 +1,25 @@
+package com.auction.back.domain.auction.controller.admin;
+
+import com.auction.back.domain.auction.dto.response.BidEngineStatsDto;
+import com.auction.back.domain.auction.engine.BidEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/bid-engine")
+@RequiredArgsConstructor
+public class BidEngineAdminController {
+
+    private final BidEngine bidEngine;
+
+    /**
+     * 샤드별 큐 깊이 / 처리량 / 핫 경매
+     * e.g. GET /api/admin/bid-engine/stats
+     */
+    @GetMapping("/stats")
+    public BidEngineStatsDto getStats() {
+        return bidEngine.getStats();
+    }
+}
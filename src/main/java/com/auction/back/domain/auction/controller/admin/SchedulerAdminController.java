@@ -0,0 +1,56 @@
+package com.auction.back.domain.auction.controller.admin;
+
+import com.auction.back.domain.auction.dto.response.LiveStateRecoveryDto;
+import com.auction.back.domain.auction.dto.response.SchedulerPartitionStatsDto;
+import com.auction.back.domain.auction.entity.AuctionDeadLetter;
+import com.auction.back.domain.auction.repository.AuctionDeadLetterRepository;
+import com.auction.back.domain.auction.scheduler.AuctionPartitionManager;
+import com.auction.back.domain.auction.scheduler.AuctionScheduler;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateRecovery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/scheduler")
+@RequiredArgsConstructor
+public class SchedulerAdminController {
+
+    private final AuctionPartitionManager partitionManager;
+    private final AuctionScheduler auctionScheduler;
+    private final AuctionDeadLetterRepository deadLetterRepository;
+    private final AuctionLiveStateRecovery liveStateRecovery;
+
+    /**
+     * 노드 목록 / 파티션 배정 / 대기열 크기
+     * e.g. GET /api/admin/scheduler/partitions
+     */
+    @GetMapping("/partitions")
+    public SchedulerPartitionStatsDto getPartitions() {
+        SchedulerPartitionStatsDto dto = partitionManager.getStats();
+        dto.setPendingDeadlines(auctionScheduler.pendingCount());
+        return dto;
+    }
+
+    /**
+     * 재시도 한도를 넘긴 시작/마감 처리 (최근 100건)
+     * e.g. GET /api/admin/scheduler/dead-letters
+     */
+    @GetMapping("/dead-letters")
+    public List<AuctionDeadLetter> getDeadLetters() {
+        return deadLetterRepository.findTop100ByOrderByIdDesc();
+    }
+
+    /**
+     * 진행중 경매의 Redis 실시간 상태를 DB/입찰 이력과 맞춤 (Redis 만 재시작된 경우 등)
+     * e.g. POST /api/admin/scheduler/recover-live-state
+     */
+    @PostMapping("/recover-live-state")
+    public LiveStateRecoveryDto recoverLiveState() {
+        return liveStateRecovery.recoverAll();
+    }
+}
@@ -3,78 +3,170 @@ package com.auction.back.domain.auction.controller.query;
 import com.auction.back.domain.auction.dto.request.AuctionSearchDto;
 import com.auction.back.domain.auction.dto.response.AuctionDetailDto;
 import com.auction.back.domain.auction.dto.response.AuctionListDto;
+import com.auction.back.domain.auction.dto.response.AuctionSliceDto;
 import com.auction.back.domain.auction.entity.Auction;
 import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionListView;
+import com.auction.back.domain.auction.service.live.AuctionLiveState;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateStore;
 import com.auction.back.domain.auction.service.query.AuctionQueryService;
-import com.auction.back.global.redis.RedisService;
+import com.auction.back.global.enums.Gender;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/auctions")
 @RequiredArgsConstructor
 public class AuctionQueryController {
 
     private final AuctionQueryService auctionQueryService;
-    private final RedisService redisService;
+    private final AuctionLiveStateStore liveStateStore;
 
     @GetMapping("/search")
     public Page<AuctionListDto> searchAuctions(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String species,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) String animalSize,
+            @RequestParam(required = false) String sellerLocation,
             Pageable pageable
     ) {
         // 1) AuctionSearchDto 생성
+        AuctionSearchDto searchDto = toSearchDto(status, keyword, species, gender, animalSize, sellerLocation);
+
+        // 2) Service 호출
+        Page<AuctionListView> page = auctionQueryService.searchAuctions(searchDto, pageable);
+
+        // 3) 페이지 내 진행중 경매의 실시간 상태를 파이프라인 1회로 조회 (페이지 크기와 무관하게 왕복 1회)
+        Map<Long, AuctionLiveState> liveStates = findLiveStates(page.getContent());
+
+        // 4) Page<목록 조회 결과> → Page<DTO> 변환
+        return page.map(auction -> toAuctionListDto(auction, liveStates));
+    }
+
+    /**
+     * 커서 페이징 검색 (무한 스크롤, id 역순, 전체 건수 조회 없음 → 깊은 페이지도 같은 비용)
+     * e.g. GET /api/auctions/search?cursor=&size=20
+     *      GET /api/auctions/search?cursor=123&size=20&status=ONGOING
+     *      GET /api/auctions/search?cursor=&size=20&species=말티즈&gender=FEMALE&animalSize=소형&facets=true (조건별 건수 포함)
+     */
+    @GetMapping(value = "/search", params = "cursor")
+    public AuctionSliceDto searchAuctionsByCursor(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String species,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) String animalSize,
+            @RequestParam(required = false) String sellerLocation,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean facets
+    ) {
+        AuctionSearchDto searchDto = toSearchDto(status, keyword, species, gender, animalSize, sellerLocation);
+        Slice<AuctionListView> slice = auctionQueryService.searchAuctions(searchDto, cursor, size);
+
+        Map<Long, AuctionLiveState> liveStates = findLiveStates(slice.getContent());
+        List<AuctionListDto> auctions = slice.getContent().stream()
+                .map(auction -> toAuctionListDto(auction, liveStates))
+                .toList();
+
+        AuctionSliceDto dto = new AuctionSliceDto();
+        dto.setAuctions(auctions);
+        dto.setHasNext(slice.hasNext());
+        dto.setNextCursor(slice.hasNext() && !auctions.isEmpty() ? auctions.get(auctions.size() - 1).getAuctionId() : null);
+        if (facets) {
+            dto.setFacets(auctionQueryService.countFacets(searchDto));
+        }
+        return dto;
+    }
+
+    /**
+     * 검색 조건(facet)별 값 건수 (품종/성별/크기/지역/상태 선택지와 선택 시 결과 수)
+     * 각 조건의 건수는 그 조건을 뺀 나머지 조건 기준, 색인 적재 전이면 빈 맵
+     * e.g. GET /api/auctions/facets?status=ONGOING&species=말티즈
+     */
+    @GetMapping("/facets")
+    public Map<String, Map<String, Integer>> getFacets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String species,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) String animalSize,
+            @RequestParam(required = false) String sellerLocation
+    ) {
+        Map<String, Map<String, Integer>> counts = auctionQueryService.countFacets(
+                toSearchDto(status, keyword, species, gender, animalSize, sellerLocation));
+        return counts != null ? counts : Map.of();
+    }
+
+    private AuctionSearchDto toSearchDto(String status, String keyword, String species, String gender,
+                                         String animalSize, String sellerLocation) {
         AuctionSearchDto searchDto = new AuctionSearchDto();
         if (status != null) {
             searchDto.setStatus(AuctionStatus.valueOf(status));
         }
         searchDto.setKeyword(keyword);
+        searchDto.setSpecies(species);
+        if (gender != null) {
+            searchDto.setGender(Gender.valueOf(gender));
+        }
+        searchDto.setSize(animalSize);
+        searchDto.setSellerLocation(sellerLocation);
+        return searchDto;
+    }
 
-        // 2) Service 호출
-        Page<Auction> page = auctionQueryService.searchAuctions(searchDto, pageable);
-
-        // 3) Page<Entity> → Page<DTO> 변환
-        return page.map(auction -> {
-            AuctionListDto dto = new AuctionListDto();
-            dto.setAuctionId(auction.getId());
-            dto.setTitle(auction.getTitle());
-            dto.setStatus(auction.getStatus());
-            dto.setImage(auction.getImage());
-
-            // 상태 분기
-            if (auction.getStatus() == AuctionStatus.SCHEDULED) {
-                // DB에 저장된 startTime 보여주기
-                // price = startPrice
-                dto.setPrice(auction.getStartPrice());
-                dto.setEndTime(auction.getStartTime().toString()); // 문제에 따라 "시작 시간"을 반환
-            }
-            else if (auction.getStatus() == AuctionStatus.ONGOING) {
-                // Redis endTime, highestPrice
-                String prefix = "auction:" + auction.getId() + ":";
-                String highestPriceStr = redisService.getValue(prefix + "highestPrice");
-                if (highestPriceStr != null) {
-                    dto.setPrice(Double.parseDouble(highestPriceStr));
-                } else {
-                    dto.setPrice(auction.getStartPrice());
-                }
-                // endTime
-                String endTimeStr = redisService.getValue(prefix + "endTime");
-                dto.setEndTime(endTimeStr != null ? endTimeStr : "");
-            }
-            else if (auction.getStatus() == AuctionStatus.ENDED) {
-                // DB finalPrice
-                Double finalPrice = auction.getFinalPrice();
-                dto.setPrice(finalPrice != null ? finalPrice : 0.0);
-                dto.setEndTime(auction.getEndTime().toString());
-                // 또는 finalEndTime if you store it
+    // 진행중 경매의 실시간 상태 일괄 조회 (진행중 경매가 없으면 Redis 조회 생략)
+    private Map<Long, AuctionLiveState> findLiveStates(List<AuctionListView> auctions) {
+        List<Long> ongoingIds = auctions.stream()
+                .filter(auction -> auction.status() == AuctionStatus.ONGOING)
+                .map(AuctionListView::id)
+                .toList();
+        return ongoingIds.isEmpty() ? Map.of() : liveStateStore.getAll(ongoingIds);
+    }
+
+    private AuctionListDto toAuctionListDto(AuctionListView auction, Map<Long, AuctionLiveState> liveStates) {
+        AuctionListDto dto = new AuctionListDto();
+        dto.setAuctionId(auction.id());
+        dto.setTitle(auction.title());
+        dto.setStatus(auction.status());
+        dto.setImage(auction.image());
+
+        // 상태 분기
+        if (auction.status() == AuctionStatus.SCHEDULED) {
+            // DB에 저장된 startTime 보여주기
+            // price = startPrice
+            dto.setPrice(auction.startPrice());
+            dto.setEndTime(auction.startTime().toString()); // 문제에 따라 "시작 시간"을 반환
+        }
+        else if (auction.status() == AuctionStatus.ONGOING) {
+            // Redis endTime, highestPrice (findLiveStates 에서 일괄 조회)
+            AuctionLiveState state = liveStates.get(auction.id());
+            if (state != null && state.highestPrice() != null) {
+                dto.setPrice(Long.parseLong(state.highestPrice()));
+            } else {
+                dto.setPrice(auction.startPrice());
             }
-            return dto;
-        });
+            // endTime
+            dto.setEndTime(state != null && state.endTime() != null ? state.endTime() : "");
+        }
+        else if (auction.status() == AuctionStatus.ENDED) {
+            // DB finalPrice
+            Long finalPrice = auction.finalPrice();
+            dto.setPrice(finalPrice != null ? finalPrice : 0L);
+            dto.setEndTime(auction.endTime().toString());
+            // 또는 finalEndTime if you store it
+        }
+        return dto;
     }
+
     /**
      * 옥션 단건 상세
      * e.g. GET /api/auctions/{auctionId}
@@ -89,16 +181,14 @@ public class AuctionQueryController {
 
         // 3) 상태가 ONGOING이면 Redis에서 현재가격, endTime 반영
         if (auction.getStatus() == AuctionStatus.ONGOING) {
-            String prefix = "auction:" + auction.getId() + ":";
-            String highestPriceStr = redisService.getValue(prefix + "highestPrice");
-            String endTimeStr = redisService.getValue(prefix + "endTime");
+            AuctionLiveState state = liveStateStore.get(auction.getId());
             // 가격
-            if (highestPriceStr != null) {
-                dto.setPrice(Double.parseDouble(highestPriceStr));
+            if (state != null && state.highestPrice() != null) {
+                dto.setPrice(Long.parseLong(state.highestPrice()));
             }
             // 동적 endTime
-            if (endTimeStr != null) {
-                dto.setEndTime(endTimeStr);
+            if (state != null && state.endTime() != null) {
+                dto.setEndTime(state.endTime());
             }
         }
 
@@ -123,7 +213,7 @@ public class AuctionQueryController {
         dto.setSize(auction.getSize());
         dto.setSellerLocation(auction.getSellerLocation());
         dto.setStatus(auction.getStatus());
-        dto.setFinalPrice(auction.getFinalPrice() != null ? auction.getFinalPrice() : 0.0);
+        dto.setFinalPrice(auction.getFinalPrice() != null ? auction.getFinalPrice() : 0L);
         dto.setFinalEndTime(
                 auction.getFinalEndTime() != null
                         ? auction.getFinalEndTime().toString()
@@ -3,52 +3,158 @@ package com.auction.back.domain.auction.controller.ws;
 import com.auction.back.domain.auction.dto.ws.BidMessage;
 import com.auction.back.domain.auction.dto.ws.BidResultDto;
 import com.auction.back.domain.auction.dto.ws.ErrorResultDto;
+import com.auction.back.domain.auction.dto.ws.ProxyBidMessage;
+import com.auction.back.domain.auction.engine.BidEngine;
 import com.auction.back.domain.auction.service.ws.AuctionWebSocketService;
+import com.auction.back.domain.auction.service.ws.BidBroadcaster;
+import com.auction.back.domain.auction.service.ws.BidDeduplicator;
+import com.auction.back.domain.auction.service.ws.BidMetrics;
+import com.auction.back.domain.auction.service.ws.BidMetrics.Stage;
+import com.auction.back.domain.auction.service.ws.BidOutcome;
+import com.auction.back.domain.auction.service.ws.DuplicateBidException;
 import com.auction.back.global.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
+@Slf4j
 @Controller
 @RequiredArgsConstructor
 public class AuctionStompController {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final AuctionWebSocketService auctionWebSocketService;
+    private final BidEngine bidEngine;
+    private final BidBroadcaster bidBroadcaster;
+    private final BidDeduplicator bidDeduplicator;
+    private final BidMetrics bidMetrics;
 
     /**
      * 클라이언트에서
      * stompClient.send("/app/auction/{auctionId}/bid", {...})
      * 로 전송 시 호출됨
+     * 실제 입찰 처리는 경매별 샤드(BidEngine)에서 순서대로 실행
      */
     @MessageMapping("/auction/{auctionId}/bid")
     public void handleBid(@DestinationVariable Long auctionId, BidMessage bidMessage, Principal principal) {
         // 1) SecurityContext에서 userEmail
 //        String userEmail = SecurityUtils.getCurrentUserEmail();
         String userEmail = principal.getName();
-        System.out.println("userEmail표출된 유저이메일 = " + userEmail);
+        if (log.isDebugEnabled()) {
+            log.debug("입찰 수신. auctionId={}, bidder={}, bidId={}", auctionId, userEmail, bidMessage.getBidId());
+        }
+        long receivedAt = System.nanoTime();
+        try {
+            bidEngine.submit(auctionId, () -> processBid(auctionId, bidMessage, userEmail, receivedAt))
+                    .exceptionally(e -> rejectDropped(userEmail, e));
+        } catch (RuntimeException e) {
+            bidMetrics.rejected("ENGINE_FULL");
+            sendError(userEmail, e.getMessage());
+        }
+    }
+
+    /**
+     * 자동입찰(최대 입찰가) 등록
+     * stompClient.send("/app/auction/{auctionId}/proxy", { maxAmount })
+     * 입찰과 같은 샤드에서 처리되어 입찰 순서와 섞이지 않음
+     */
+    @MessageMapping("/auction/{auctionId}/proxy")
+    public void handleProxyBid(@DestinationVariable Long auctionId, ProxyBidMessage proxyBidMessage, Principal principal) {
+        String userEmail = principal.getName();
+        try {
+            bidEngine.submit(auctionId, () -> processProxyBid(auctionId, proxyBidMessage, userEmail))
+                    .exceptionally(e -> rejectDropped(userEmail, e));
+        } catch (RuntimeException e) {
+            sendError(userEmail, e.getMessage());
+        }
+    }
+
+    // 종료로 처리되지 못한 작업 → 응답 없이 기다리지 않도록 에러 전달 (처리 중 예외는 작업 안에서 이미 전달됨)
+    private Void rejectDropped(String userEmail, Throwable e) {
+        if (e instanceof RejectedExecutionException) {
+            sendError(userEmail, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 샤드 워커 스레드에서 실행
+     */
+    private void processBid(Long auctionId, BidMessage bidMessage, String userEmail, long receivedAt) {
+        bidMetrics.record(Stage.QUEUE_WAIT, receivedAt);
+        String bidId = bidMessage.getBidId();
         try {
-        // 2) 비즈니스 로직: 입찰 검증 & Redis 업데이트 등
-        BidResultDto resultDto = auctionWebSocketService.placeBid(auctionId, bidMessage.getBidAmount(), userEmail);
+            // 이 노드에서 이미 처리한 재전송 입찰이면 원래 결과만 본인에게 다시 전달 (Redis 작업 없음)
+            if (bidId != null) {
+                long dedupStart = System.nanoTime();
+                Optional<BidOutcome> duplicate = bidDeduplicator.findLocal(userEmail, bidId);
+                bidMetrics.record(Stage.DEDUP, dedupStart);
+                if (duplicate.isPresent()) {
+                    bidMetrics.rejected("DUPLICATE");
+                    replyDuplicate(userEmail, duplicate.get());
+                    return;
+                }
+            }
+
+            // 2) 비즈니스 로직: 입찰 검증 & Redis 업데이트 등 (다른 노드/재접속 재전송은 입찰 스크립트에서 확인)
+            BidResultDto resultDto = auctionWebSocketService.placeBid(auctionId, bidMessage.getBidAmount(), userEmail, bidId);
 
-        // 3) /topic/auction/{auctionId} 로 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/auction/" + auctionId, resultDto);
+            // 3) /topic/auction/{auctionId} 로 브로드캐스트 (설정 시 윈도우 단위로 최신 상태만)
+            long broadcastStart = System.nanoTime();
+            bidBroadcaster.publish(auctionId, resultDto);
+            bidMetrics.record(Stage.BROADCAST, broadcastStart);
+            if (bidId != null) {
+                bidDeduplicator.remember(userEmail, bidId, BidOutcome.success(resultDto));
+            }
+        } catch (DuplicateBidException e) {
+            replyDuplicate(userEmail, e.getOutcome());
         } catch (RuntimeException e) {
-            // 실패 시: 같은 채널("/topic/auction/{auctionId}")에 ErrorResult 전송
-            ErrorResultDto errorDto = new ErrorResultDto(
-                    false,
-                    e.getMessage() // 예: "포인트 부족" 등
-            );
-
-            messagingTemplate.convertAndSendToUser(
-                    userEmail,           // = Principal.getName()
-                    "/queue/errors",     // = /user/queue/errors
-                    errorDto
-            );
+            // 실패 시: 입찰자 개인 채널로 ErrorResult 전송
+            // (거절 결과는 입찰 스크립트에 기록되어 있으므로 로컬에는 남기지 않음 → Redis 오류 등은 재전송으로 다시 시도 가능)
+            sendError(userEmail, e.getMessage()); // 예: "포인트 부족" 등
+        } finally {
+            bidMetrics.record(Stage.TOTAL, receivedAt);
+        }
+    }
+
+    // 원래 처리 결과를 본인에게만 다시 전달 (성공 → /queue/bids, 거절 → /queue/errors)
+    private void replyDuplicate(String userEmail, BidOutcome outcome) {
+        if (outcome.result() != null) {
+            messagingTemplate.convertAndSendToUser(userEmail, "/queue/bids", outcome.result());
+        } else {
+            sendError(userEmail, outcome.errorMessage());
         }
+    }
+
+    private void processProxyBid(Long auctionId, ProxyBidMessage proxyBidMessage, String userEmail) {
+        try {
+            BidResultDto resultDto = auctionWebSocketService.registerProxyBid(auctionId, proxyBidMessage.getMaxAmount(), userEmail);
+            // 등록으로 입찰이 발생한 경우에만 브로드캐스트 (경쟁 해소 후 최종 상태 1회)
+            if (resultDto != null) {
+                bidBroadcaster.publish(auctionId, resultDto);
+            }
+        } catch (RuntimeException e) {
+            sendError(userEmail, e.getMessage());
         }
+    }
+
+    private void sendError(String userEmail, String message) {
+        ErrorResultDto errorDto = new ErrorResultDto(
+                false,
+                message
+        );
+
+        messagingTemplate.convertAndSendToUser(
+                userEmail,           // = Principal.getName()
+                "/queue/errors",     // = /user/queue/errors
+                errorDto
+        );
+    }
 }
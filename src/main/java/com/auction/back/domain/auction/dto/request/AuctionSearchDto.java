@@ -1,11 +1,16 @@
 package com.auction.back.domain.auction.dto.request;
 
 import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.global.enums.Gender;
 import lombok.Data;
 import org.springframework.data.domain.Pageable;
 
 @Data
 public class AuctionSearchDto {
     private AuctionStatus status; // SCHEDULED, ONGOING, ENDED, ...
-    private String keyword;       // 제목/설명 등에서 LIKE 검색
+    private String keyword;       // 제목/품종/설명 검색 (키워드 색인, 사용할 수 없으면 LIKE)
+    private String species;        // 품종 (일치)
+    private Gender gender;
+    private String size;
+    private String sellerLocation; // 판매자 지역 (일치)
 }
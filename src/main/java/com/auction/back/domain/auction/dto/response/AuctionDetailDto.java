@@ -23,13 +23,13 @@ public class AuctionDetailDto {
     private String sellerLocation;
     private AuctionStatus status;
 
-    private double finalPrice;      // 낙찰 금액
+    private long finalPrice;      // 낙찰 금액
     private String finalEndTime;    // 실제 최종 종료시간 (optional)
 
     private String sellerEmail;     // 판매자 이메일
     private String winnerEmail;     // 낙찰자 이메일
 
     // price: 현재 표시할 가격 (ON-GOING은 Redis highestPrice)
-    private double price;
+    private long price;
 }
 
@@ -10,7 +10,7 @@ public class AuctionListDto {
     private AuctionStatus status;
     private String image;
 
-    private double price;       // 현재 표시할 가격 (ONGOING은 Redis 최고가, SCHEDULED은 startPrice, ENDED은 finalPrice 등)
+    private long price;       // 현재 표시할 가격 (ONGOING은 Redis 최고가, SCHEDULED은 startPrice, ENDED은 finalPrice 등)
     private String startTime;
     private String endTime;     // 표시할 마감 시간 (ONGOING은 Redis 동적endTime, SCHEDULED/ENDED은 DB endTime)
 }
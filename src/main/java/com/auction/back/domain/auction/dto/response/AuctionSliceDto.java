@@ -0,0 +1,14 @@
+package com.auction.back.domain.auction.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class AuctionSliceDto {
+    private List<AuctionListDto> auctions;
+    private boolean hasNext;
+    private Long nextCursor;    // 다음 요청의 cursor (마지막 경매 id), 없으면 null
+    private Map<String, Map<String, Integer>> facets; // 조건별 값 건수 (facets=true 요청 시, 색인 적재 전이면 null)
+}
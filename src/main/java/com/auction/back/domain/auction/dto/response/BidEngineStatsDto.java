@@ -0,0 +1,12 @@
+package com.auction.back.domain.auction.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BidEngineStatsDto {
+    private int shardCount;
+    private long totalQueueDepth;          // 전체 샤드 대기 입찰 수
+    private List<BidShardStatsDto> shards;
+}
@@ -0,0 +1,15 @@
+package com.auction.back.domain.auction.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BidShardStatsDto {
+    private int shardIndex;
+    private int queueDepth;               // 메일박스 대기 입찰 수
+    private long processedCount;          // 누적 처리 건수
+    private long processedLastMinute;     // 직전 1분 처리 건수 (샤드별 처리량)
+    private long processedCurrentMinute;  // 현재 1분 윈도우 처리 건수
+    private List<Long> hotAuctionIds;     // 처리 건수 많은 경매 (상위 5개)
+}
@@ -0,0 +1,12 @@
+package com.auction.back.domain.auction.dto.response;
+
+import lombok.Data;
+
+@Data
+public class LiveStateRecoveryDto {
+    private int checked;        // 확인한 진행중 경매 수
+    private int rebuilt;        // 실시간 상태가 없어 DB/입찰 이력으로 다시 만든 경매 수
+    private int repaired;       // 입찰 이력보다 최고가가 낮아 바로잡은 경매 수
+    private int reindexed;      // 마감시각 인덱스만 다시 등록한 경매 수
+    private long elapsedMillis;
+}
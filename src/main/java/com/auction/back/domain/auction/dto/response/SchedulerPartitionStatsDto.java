@@ -0,0 +1,16 @@
+package com.auction.back.domain.auction.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class SchedulerPartitionStatsDto {
+    private String nodeId;                          // 현재 노드
+    private int partitionCount;
+    private List<String> liveNodes;                 // 하트비트 중인 노드
+    private Map<Integer, Long> ownedPartitions;     // 현재 노드 소유 파티션 → 펜싱 토큰
+    private Map<Integer, String> partitionOwners;   // 파티션별 리스 소유 노드 (없으면 null)
+    private int pendingDeadlines;                   // 현재 노드 대기열의 시작/마감 예정 수
+}
@@ -8,7 +8,8 @@ import lombok.Setter;
 @Data
 @NoArgsConstructor
 public class BidMessage {
+    private String bidId;      // 클라이언트 생성 입찰 ID (재전송 시 동일 값 → 중복 처리 방지, 선택)
     private Long auctionId;    // 어느 경매인지 (또는 PathVariable로도 받을 수 있음)
-    private double bidAmount;  // 입찰 금액
+    private long bidAmount;    // 입찰 금액 (원 단위 정수)
     private String newEndTime;
 }
@@ -2,13 +2,15 @@ package com.auction.back.domain.auction.dto.ws;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class BidResultDto {
     private Long auctionId;
     private String bidderEmail;
-    private double highestPrice;
+    private long highestPrice;
     private boolean success;
     private String newEndTime;
 }
@@ -0,0 +1,10 @@
+package com.auction.back.domain.auction.dto.ws;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ProxyBidMessage {
+    private long maxAmount;  // 자동입찰 상한가 (이 금액까지 서버가 증가분씩 자동 입찰)
+}
@@ -0,0 +1,87 @@
+package com.auction.back.domain.auction.engine;
+
+import com.auction.back.domain.auction.dto.response.BidEngineStatsDto;
+import com.auction.back.domain.auction.dto.response.BidShardStatsDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 경매별 단일 작성자(single-writer) 입찰 엔진
+ * - auctionId 해시로 고정 샤드에 배정 → 같은 경매의 입찰은 항상 같은 스레드에서 순서대로 처리 (락 없음)
+ * - 서로 다른 경매는 샤드(코어) 수만큼 병렬 처리
+ * - 종료 시 새 작업은 거절하고 메일박스에 남은 작업은 drain-timeout-ms 동안 처리, 남은 작업은 실패로 완료
+ */
+@Slf4j
+@Component
+public class BidEngine {
+
+    private static final int HOT_AUCTION_LIMIT = 5;
+
+    private final BidShard[] shards;
+    private final long drainTimeoutMillis;
+
+    public BidEngine(@Value("${auction.bid-engine.shards:0}") int shardCount,
+                     @Value("${auction.bid-engine.queue-capacity:10000}") int queueCapacity,
+                     @Value("${auction.bid-engine.drain-timeout-ms:5000}") long drainTimeoutMillis) {
+        this.drainTimeoutMillis = drainTimeoutMillis;
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new BidShard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new BidShard(i, queueCapacity);
+            shards[i].start();
+        }
+        log.info("입찰 엔진 시작. shards={}, queueCapacity={}", count, queueCapacity);
+    }
+
+    /**
+     * 경매의 샤드 메일박스에 작업 등록
+     * 큐가 가득 차거나 종료 중이면 예외 (호출 측에서 사용자에게 에러 전달)
+     *
+     * @return 작업 완료 시 완료, 종료로 처리되지 못하면 RejectedExecutionException 으로 실패
+     */
+    public CompletableFuture<Void> submit(Long auctionId, Runnable task) {
+        CompletableFuture<Void> done = shards[shardIndex(auctionId)].offer(auctionId, task);
+        if (done == null) {
+            throw new RejectedExecutionException("입찰 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return done;
+    }
+
+    public int shardIndex(Long auctionId) {
+        return Math.floorMod(Long.hashCode(auctionId), shards.length);
+    }
+
+    public BidEngineStatsDto getStats() {
+        List<BidShardStatsDto> shardStats = new ArrayList<>(shards.length);
+        long totalDepth = 0;
+        for (BidShard shard : shards) {
+            BidShardStatsDto stats = shard.stats(HOT_AUCTION_LIMIT);
+            totalDepth += stats.getQueueDepth();
+            shardStats.add(stats);
+        }
+
+        BidEngineStatsDto dto = new BidEngineStatsDto();
+        dto.setShardCount(shards.length);
+        dto.setTotalQueueDepth(totalDepth);
+        dto.setShards(shardStats);
+        return dto;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (BidShard shard : shards) {
+            shard.stop();
+        }
+        long deadline = System.currentTimeMillis() + drainTimeoutMillis;
+        for (BidShard shard : shards) {
+            shard.awaitTermination(deadline - System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.auction.back.domain.auction.engine;
+
+import com.auction.back.domain.auction.dto.response.BidShardStatsDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입찰 샤드 = 메일박스(큐) + 전용 워커 스레드 1개
+ * 같은 샤드에 배정된 경매의 입찰은 이 스레드에서만 순서대로 실행됨 (single-writer)
+ */
+@Slf4j
+class BidShard implements Runnable {
+
+    private static final long WINDOW_MILLIS = 60_000L;
+    // 종료 신호 확인 주기 (메일박스가 비어있을 때)
+    private static final long POLL_MILLIS = 100L;
+
+    private final int index;
+    private final BlockingQueue<BidTask> mailbox;
+    private final Thread worker;
+
+    private final AtomicLong processedCount = new AtomicLong();
+    private volatile long windowStartMillis = System.currentTimeMillis();
+    private volatile long lastWindowCount;
+    private volatile long currentWindowCount;
+    // 현재 윈도우(1분)의 경매별 처리 건수 → 핫 경매 확인용
+    private final Map<Long, AtomicLong> auctionCounts = new ConcurrentHashMap<>();
+    private volatile Map<Long, AtomicLong> lastAuctionCounts = Map.of();
+
+    private volatile boolean running = true;
+
+    BidShard(int index, int capacity) {
+        this.index = index;
+        this.mailbox = new LinkedBlockingQueue<>(capacity);
+        this.worker = new Thread(this, "bid-shard-" + index);
+        this.worker.setDaemon(true);
+    }
+
+    void start() {
+        worker.start();
+    }
+
+    /**
+     * 새 작업 접수 중단 (이미 들어온 작업은 워커가 계속 처리)
+     */
+    void stop() {
+        running = false;
+    }
+
+    /**
+     * 남은 작업을 처리할 때까지 대기, 시간 안에 못 끝낸 작업은 실패로 완료 (호출 측이 결과를 기다리지 않도록)
+     */
+    void awaitTermination(long timeoutMillis) {
+        try {
+            worker.join(Math.max(timeoutMillis, 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            worker.interrupt();
+        }
+        List<BidTask> dropped = new ArrayList<>();
+        mailbox.drainTo(dropped);
+        for (BidTask task : dropped) {
+            task.done().completeExceptionally(new RejectedExecutionException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요."));
+        }
+        if (!dropped.isEmpty()) {
+            log.warn("종료 시 처리하지 못한 입찰 작업. shard={}, count={}", index, dropped.size());
+        }
+    }
+
+    /**
+     * @return 종료 중이거나 메일박스가 가득 차면 null
+     */
+    CompletableFuture<Void> offer(Long auctionId, Runnable task) {
+        if (!running) {
+            return null;
+        }
+        BidTask bidTask = new BidTask(auctionId, task, new CompletableFuture<>());
+        return mailbox.offer(bidTask) ? bidTask.done() : null;
+    }
+
+    @Override
+    public void run() {
+        // 종료 신호 후에도 메일박스에 남은 작업은 모두 처리
+        while (running || !mailbox.isEmpty()) {
+            BidTask task;
+            try {
+                task = mailbox.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+            try {
+                task.runnable().run();
+                task.done().complete(null);
+            } catch (Throwable t) {
+                log.error("입찰 처리 중 예외. shard={}, auctionId={}", index, task.auctionId(), t);
+                task.done().completeExceptionally(t);
+            }
+            record(task.auctionId());
+        }
+    }
+
+    // 워커 스레드에서만 호출
+    private void record(Long auctionId) {
+        processedCount.incrementAndGet();
+        long now = System.currentTimeMillis();
+        if (now - windowStartMillis >= WINDOW_MILLIS) {
+            lastWindowCount = currentWindowCount;
+            lastAuctionCounts = Map.copyOf(auctionCounts);
+            currentWindowCount = 0;
+            auctionCounts.clear();
+            windowStartMillis = now;
+        }
+        currentWindowCount++;
+        auctionCounts.computeIfAbsent(auctionId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    BidShardStatsDto stats(int hotAuctionLimit) {
+        // 현재 윈도우가 비어있으면 직전 윈도우 기준으로 핫 경매 표시
+        Map<Long, AtomicLong> counts = auctionCounts.isEmpty() ? lastAuctionCounts : auctionCounts;
+        List<Long> hotAuctions = counts.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Long, AtomicLong> e) -> e.getValue().get()).reversed())
+                .limit(hotAuctionLimit)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        BidShardStatsDto dto = new BidShardStatsDto();
+        dto.setShardIndex(index);
+        dto.setQueueDepth(mailbox.size());
+        dto.setProcessedCount(processedCount.get());
+        dto.setProcessedLastMinute(lastWindowCount);
+        dto.setProcessedCurrentMinute(currentWindowCount);
+        dto.setHotAuctionIds(hotAuctions);
+        return dto;
+    }
+
+    private record BidTask(Long auctionId, Runnable runnable, CompletableFuture<Void> done) {
+    }
+}
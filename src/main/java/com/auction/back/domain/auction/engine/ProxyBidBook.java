@@ -0,0 +1,154 @@
+package com.auction.back.domain.auction.engine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매별 자동입찰(최대 입찰가) 장부
+ * - 경매마다 상한가 내림차순(동률이면 먼저 등록한 순) 정렬 구조 유지
+ * - 경매별 상태는 해당 경매의 BidEngine 샤드 스레드에서만 접근 (락 없음)
+ * - 노드 메모리에만 존재 (재시작 시 사라짐)
+ * - 경매를 마감한 노드는 정산 후 바로 정리, 다른 노드의 남은 장부는 ProxyBidBookSweeper 가 주기적으로 정리
+ */
+@Component
+public class ProxyBidBook {
+
+    private final Map<Long, AuctionProxyBids> books = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final long increment;
+
+    public ProxyBidBook(@Value("${auction.proxy.increment:100}") long increment) {
+        this.increment = increment;
+    }
+
+    public void register(Long auctionId, String bidderEmail, long maxAmount) {
+        books.computeIfAbsent(auctionId, id -> new AuctionProxyBids())
+                .put(new ProxyBid(bidderEmail, maxAmount, sequence.incrementAndGet()));
+    }
+
+    public void remove(Long auctionId, String bidderEmail) {
+        AuctionProxyBids bids = books.get(auctionId);
+        if (bids != null) {
+            bids.remove(bidderEmail);
+        }
+    }
+
+    // 경매 종료 시 정리
+    public void clear(Long auctionId) {
+        books.remove(auctionId);
+    }
+
+    // 장부가 있는 경매 ID (정리 대상 확인용)
+    public List<Long> auctionIds() {
+        return new ArrayList<>(books.keySet());
+    }
+
+    /**
+     * 현재 최고입찰자/최고가 기준으로 자동입찰 경쟁을 한 번에 해소
+     * eBay 방식: 가장 높은 상한가 보유자가 (두 번째 상한가 + 증가분)과 자기 상한가 중 작은 값으로 입찰
+     * @return 적용할 입찰 (없으면 empty)
+     */
+    public Optional<ProxyBidDecision> resolve(Long auctionId, String leaderEmail, long currentPrice) {
+        AuctionProxyBids bids = books.get(auctionId);
+        if (bids == null) {
+            return Optional.empty();
+        }
+        // 현재가 이하 상한가는 더 이상 입찰할 수 없으므로 정리 (최고입찰자 본인 제외)
+        bids.pruneAtOrBelow(currentPrice, leaderEmail);
+
+        ProxyBid leaderProxy = bids.get(leaderEmail);
+        long leaderCeiling = leaderProxy != null ? Math.max(leaderProxy.maxAmount(), currentPrice) : currentPrice;
+
+        // 최고입찰자 외 상한가가 가장 높은 도전자, 그 다음 도전자
+        ProxyBid challenger = null;
+        ProxyBid nextChallenger = null;
+        for (ProxyBid bid : bids.ordered()) {
+            if (bid.bidderEmail().equals(leaderEmail)) continue;
+            if (challenger == null) {
+                challenger = bid;
+            } else {
+                nextChallenger = bid;
+                break;
+            }
+        }
+        if (challenger == null) {
+            return Optional.empty();
+        }
+
+        boolean challengerWins = challenger.maxAmount() > leaderCeiling
+                || (challenger.maxAmount() == leaderCeiling
+                && (leaderProxy == null || challenger.sequence() < leaderProxy.sequence()));
+
+        if (challengerWins) {
+            long runnerUp = nextChallenger != null ? Math.max(leaderCeiling, nextChallenger.maxAmount()) : leaderCeiling;
+            long amount = Math.min(challenger.maxAmount(), runnerUp + increment);
+            return amount > currentPrice
+                    ? Optional.of(new ProxyBidDecision(challenger.bidderEmail(), amount))
+                    : Optional.empty();
+        }
+
+        // 최고입찰자가 자동입찰로 방어 → 도전자 상한가 + 증가분까지 올림
+        if (leaderProxy == null) {
+            return Optional.empty();
+        }
+        long amount = Math.min(leaderCeiling, challenger.maxAmount() + increment);
+        return amount > currentPrice
+                ? Optional.of(new ProxyBidDecision(leaderEmail, amount))
+                : Optional.empty();
+    }
+
+    public record ProxyBidDecision(String bidderEmail, long amount) {
+    }
+
+    private record ProxyBid(String bidderEmail, long maxAmount, long sequence) {
+    }
+
+    /**
+     * 한 경매의 자동입찰 목록 (상한가 내림차순, 동률이면 등록 순)
+     */
+    private static class AuctionProxyBids {
+
+        private static final Comparator<ProxyBid> ORDER =
+                Comparator.comparingLong(ProxyBid::maxAmount).reversed()
+                        .thenComparingLong(ProxyBid::sequence);
+
+        private final TreeSet<ProxyBid> ordered = new TreeSet<>(ORDER);
+        private final Map<String, ProxyBid> byBidder = new HashMap<>();
+
+        void put(ProxyBid bid) {
+            remove(bid.bidderEmail());
+            ordered.add(bid);
+            byBidder.put(bid.bidderEmail(), bid);
+        }
+
+        void remove(String bidderEmail) {
+            ProxyBid existing = byBidder.remove(bidderEmail);
+            if (existing != null) {
+                ordered.remove(existing);
+            }
+        }
+
+        ProxyBid get(String bidderEmail) {
+            return byBidder.get(bidderEmail);
+        }
+
+        Iterable<ProxyBid> ordered() {
+            return ordered;
+        }
+
+        void pruneAtOrBelow(long price, String keepBidder) {
+            Iterator<ProxyBid> it = ordered.descendingIterator();
+            while (it.hasNext()) {
+                ProxyBid bid = it.next();
+                if (bid.maxAmount() > price) break;
+                if (bid.bidderEmail().equals(keepBidder)) continue;
+                it.remove();
+                byBidder.remove(bid.bidderEmail());
+            }
+        }
+    }
+}
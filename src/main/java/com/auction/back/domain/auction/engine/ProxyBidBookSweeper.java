@@ -0,0 +1,59 @@
+package com.auction.back.domain.auction.engine;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.service.live.AuctionLiveState;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateStore;
+import com.auction.back.global.utils.DateTimeUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 끝난 경매의 자동입찰 장부 정리 (모든 노드)
+ * - 경매를 마감한 노드만 정산 시 장부를 지우므로, 다른 노드에 남은 장부는 실시간 상태 기준으로 주기적으로 정리
+ * - 실시간 상태가 없거나(정산 후 삭제 / TTL 만료) 진행중·시작 전이 아니거나 마감시각이 지난 경매 = 더 이상 자동입찰 불가
+ * - 장부가 있는 경매만 파이프라인 1회로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProxyBidBookSweeper {
+
+    private final ProxyBidBook proxyBidBook;
+    private final AuctionLiveStateStore liveStateStore;
+
+    @Scheduled(fixedDelayString = "${auction.proxy.sweep-interval-ms:60000}")
+    public void sweep() {
+        List<Long> auctionIds = proxyBidBook.auctionIds();
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        Map<Long, AuctionLiveState> states = liveStateStore.getAll(auctionIds);
+        String now = DateTimeUtils.toRedisString(LocalDateTime.now());
+        int cleared = 0;
+        for (Long auctionId : auctionIds) {
+            if (isFinished(states.get(auctionId), now)) {
+                proxyBidBook.clear(auctionId);
+                cleared++;
+            }
+        }
+        if (cleared > 0) {
+            log.info("끝난 경매 자동입찰 장부 정리. count={}", cleared);
+        }
+    }
+
+    // 마감시각은 고정 길이 문자열이므로 문자열 비교로 선후 판단
+    private static boolean isFinished(AuctionLiveState state, String now) {
+        if (state == null) {
+            return true;
+        }
+        boolean open = AuctionStatus.ONGOING.name().equals(state.status())
+                || AuctionStatus.SCHEDULED.name().equals(state.status());
+        return !open || (state.endTime() != null && state.endTime().compareTo(now) < 0);
+    }
+}
@@ -9,7 +9,15 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "auction")
+@Table(name = "auction", indexes = {
+        // 시작/마감 처리 스캔 = 상태 + 시각 범위 조회
+        @Index(name = "idx_auction_status_start_time", columnList = "status, start_time"),
+        @Index(name = "idx_auction_status_end_time", columnList = "status, end_time"),
+        // 상태별 목록 커서 페이징 = 상태 + id 역순
+        @Index(name = "idx_auction_status_id", columnList = "status, id"),
+        // 노드 메모리 검색 색인의 변경분 동기화 = 변경 시각 범위 조회
+        @Index(name = "idx_auction_updated_at", columnList = "updated_at")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -67,12 +75,25 @@ public class Auction {
     @JoinColumn(name = "winner_id")
     private User winner;   // 최종 입찰자
 
-    // 낙찰 금액
-    private Double finalPrice;
+    // 낙찰 금액 (원 단위 정수)
+    private Long finalPrice;
 
     @Column
     private LocalDateTime finalEndTime;
 
+    // 마지막으로 상태를 전환한 스케줄러 리더의 펜싱 토큰 (이보다 작은 토큰의 전환은 거부)
+    private Long fenceToken;
+
+    // 등록/수정/상태 전환 시각 (다른 노드의 검색 색인이 이 시각 이후 변경분만 다시 읽음, 일괄 전환 쿼리도 함께 갱신)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     //== 편의 메서드 ==//
     public void updateImage(String filename) {
         this.image = filename;
@@ -82,12 +103,12 @@ public class Auction {
         this.status = newStatus;
     }
 
-    public void setWinner(User winner, double price) {
+    public void setWinner(User winner, long price) {
         this.winner = winner;
         this.finalPrice = price;
     }
     public void setFinalEndTime(LocalDateTime finalEndTime) {
-        this.endTime = finalEndTime; // DB의 endTime을 덮어씀
+        this.finalEndTime = finalEndTime; // 연장이 반영된 실제 마감시각 (예정 마감시각 endTime 은 유지)
     }
 
     /**
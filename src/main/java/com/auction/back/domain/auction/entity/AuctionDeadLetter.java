@@ -0,0 +1,39 @@
+package com.auction.back.domain.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 한도를 넘긴 경매 시작/마감 처리 기록 (운영자 확인 후 수동 처리)
+ */
+@Entity
+@Table(name = "auction_dead_letter", indexes = {
+        @Index(name = "idx_auction_dead_letter_auction_id", columnList = "auction_id")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuctionDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Column(nullable = false, length = 10)
+    private String kind;          // START, END
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime failedAt;
+}
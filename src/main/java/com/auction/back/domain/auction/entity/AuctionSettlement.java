@@ -0,0 +1,80 @@
+package com.auction.back.domain.auction.entity;
+
+import com.auction.back.domain.auction.enums.SettlementStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 정산 outbox
+ * 경매를 ENDED 로 전환하는 트랜잭션에서 함께 저장되고, SettlementOutboxDispatcher 가 배치로 처리
+ * (낙찰자 차감 / 판매자 지급 / Redis 정리). 경매당 1건
+ * 실패하면 next_attempt_at 을 지수 백오프로 미뤄서 재시도
+ */
+@Entity
+@Table(name = "auction_settlement", indexes = {
+        @Index(name = "idx_auction_settlement_status_next_attempt", columnList = "status, next_attempt_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_auction_settlement_auction_id", columnNames = "auction_id")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuctionSettlement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Column(length = 100)
+    private String winnerEmail;   // 유찰이면 null
+
+    @Column(length = 100)
+    private String sellerEmail;
+
+    @Column(nullable = false)
+    private long amount;          // 낙찰 금액 (원 단위 정수)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SettlementStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;   // 이 시각 이후에 처리 대상
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    //== 편의 메서드 ==//
+    public boolean hasWinner() {
+        return winnerEmail != null && !winnerEmail.isEmpty();
+    }
+
+    /**
+     * 처리 실패 기록, 최대 시도 횟수에 도달하면 FAILED (더 이상 자동 처리하지 않음)
+     * 그 전까지는 retryDelayMillis * 2^(시도 횟수 - 1) 뒤로 다음 처리 시각을 미룸
+     */
+    public void recordFailure(String error, int maxAttempts, long retryDelayMillis, LocalDateTime now) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = SettlementStatus.FAILED;
+            return;
+        }
+        long delayMillis = retryDelayMillis << Math.min(this.attempts - 1, 10);
+        this.nextAttemptAt = now.plusNanos(delayMillis * 1_000_000);
+    }
+}
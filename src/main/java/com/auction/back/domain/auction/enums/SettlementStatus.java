@@ -0,0 +1,7 @@
+package com.auction.back.domain.auction.enums;
+
+public enum SettlementStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
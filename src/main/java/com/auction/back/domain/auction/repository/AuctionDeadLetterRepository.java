@@ -0,0 +1,10 @@
+package com.auction.back.domain.auction.repository;
+
+import com.auction.back.domain.auction.entity.AuctionDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AuctionDeadLetterRepository extends JpaRepository<AuctionDeadLetter, Long> {
+    List<AuctionDeadLetter> findTop100ByOrderByIdDesc();
+}
@@ -0,0 +1,15 @@
+package com.auction.back.domain.auction.repository;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.global.enums.Gender;
+
+/**
+ * 검색 조건(facet) 색인용 조회 결과 (필터 컬럼만)
+ */
+public record AuctionFacetView(Long id,
+                               AuctionStatus status,
+                               String species,
+                               Gender gender,
+                               String size,
+                               String sellerLocation) {
+}
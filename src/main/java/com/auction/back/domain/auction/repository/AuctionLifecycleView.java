@@ -0,0 +1,15 @@
+package com.auction.back.domain.auction.repository;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시작/마감 처리용 경량 조회 결과 (설명 LOB, 판매자/낙찰자 연관 없이 필요한 컬럼만)
+ */
+public record AuctionLifecycleView(Long id,
+                                   AuctionStatus status,
+                                   LocalDateTime startTime,
+                                   LocalDateTime endTime,
+                                   int startPrice) {
+}
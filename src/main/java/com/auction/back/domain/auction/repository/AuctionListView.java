@@ -0,0 +1,18 @@
+package com.auction.back.domain.auction.repository;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록/검색용 경량 조회 결과 (설명 LOB, 판매자/낙찰자 연관 없이 목록 컬럼만, 영속성 컨텍스트 관리 대상 아님)
+ */
+public record AuctionListView(Long id,
+                              String title,
+                              AuctionStatus status,
+                              String image,
+                              int startPrice,
+                              Long finalPrice,
+                              LocalDateTime startTime,
+                              LocalDateTime endTime) {
+}
@@ -2,10 +2,145 @@ package com.auction.back.domain.auction.repository;
 
 import com.auction.back.domain.auction.entity.Auction;
 import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface  AuctionRepository extends JpaRepository<Auction, Long>, AuctionRepositoryCustom {
     List<Auction> findByStatus(AuctionStatus status);
+
+    // 시작/마감 처리용 경량 조회 (엔티티/LOB/연관 로딩 없음)
+    @Query("select new com.auction.back.domain.auction.repository.AuctionLifecycleView(" +
+            "a.id, a.status, a.startTime, a.endTime, a.startPrice) from Auction a where a.status = :status")
+    List<AuctionLifecycleView> findLifecycleByStatus(@Param("status") AuctionStatus status);
+
+    @Query("select new com.auction.back.domain.auction.repository.AuctionLifecycleView(" +
+            "a.id, a.status, a.startTime, a.endTime, a.startPrice) from Auction a where a.id = :id")
+    Optional<AuctionLifecycleView> findLifecycleById(@Param("id") Long id);
+
+    // 키워드 색인 적재 (id 순 keyset, 취소된 경매 제외)
+    @Query("select new com.auction.back.domain.auction.repository.AuctionTextView(" +
+            "a.id, a.title, a.description, a.species) from Auction a " +
+            "where a.id > :afterId and a.status <> :excluded order by a.id")
+    List<AuctionTextView> findTextAfter(@Param("afterId") Long afterId,
+                                        @Param("excluded") AuctionStatus excluded,
+                                        Pageable pageable);
+
+    // 키워드 색인 변경분 동기화 (since 이후 등록/수정된 경매, 취소 제외)
+    @Query("select new com.auction.back.domain.auction.repository.AuctionTextView(" +
+            "a.id, a.title, a.description, a.species) from Auction a " +
+            "where a.updatedAt >= :since and a.status <> :excluded")
+    List<AuctionTextView> findTextChangedSince(@Param("since") LocalDateTime since,
+                                               @Param("excluded") AuctionStatus excluded);
+
+    // since 이후 해당 상태로 바뀐 경매 id (키워드 색인에서 취소된 경매 제거)
+    @Query("select a.id from Auction a where a.updatedAt >= :since and a.status = :status")
+    List<Long> findIdsChangedSince(@Param("since") LocalDateTime since,
+                                   @Param("status") AuctionStatus status);
+
+    // 검색 조건(facet) 색인 적재 (id 순 keyset, 취소된 경매 포함 → 상태 facet)
+    @Query("select new com.auction.back.domain.auction.repository.AuctionFacetView(" +
+            "a.id, a.status, a.species, a.gender, a.size, a.sellerLocation) from Auction a " +
+            "where a.id > :afterId order by a.id")
+    List<AuctionFacetView> findFacetsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // facet 색인 변경분 동기화 (since 이후 등록/수정/취소/상태 전환된 경매)
+    @Query("select new com.auction.back.domain.auction.repository.AuctionFacetView(" +
+            "a.id, a.status, a.species, a.gender, a.size, a.sellerLocation) from Auction a " +
+            "where a.updatedAt >= :since")
+    List<AuctionFacetView> findFacetsChangedSince(@Param("since") LocalDateTime since);
+
+    @Query("select new com.auction.back.domain.auction.repository.AuctionLifecycleView(" +
+            "a.id, a.status, a.startTime, a.endTime, a.startPrice) from Auction a where a.id in :ids and a.status = :status")
+    List<AuctionLifecycleView> findLifecycleByIdsAndStatus(@Param("ids") Collection<Long> ids,
+                                                           @Param("status") AuctionStatus status);
+
+    @Query("select s.email from Auction a join a.seller s where a.id = :id")
+    Optional<String> findSellerEmail(@Param("id") Long id);
+
+    // 경매 ID → 판매자 이메일 (판매자 없으면 null)
+    @Query("select a.id, s.email from Auction a left join a.seller s where a.id in :ids")
+    List<Object[]> findSellerEmails(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 파티션 내 시작시각이 된 SCHEDULED 경매 (행 잠금, 일괄 시작용)
+     * (status, start_time) 인덱스 범위 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.auction.back.domain.auction.repository.AuctionLifecycleView(" +
+            "a.id, a.status, a.startTime, a.endTime, a.startPrice) from Auction a " +
+            "where a.status = :status and a.startTime <= :now and mod(a.id, :partitionCount) = :partition")
+    List<AuctionLifecycleView> lockDueToStart(@Param("status") AuctionStatus status,
+                                 @Param("now") LocalDateTime now,
+                                 @Param("partitionCount") int partitionCount,
+                                 @Param("partition") int partition);
+
+    // 주어진 경매 중 아직 해당 상태인 것 (행 잠금, 일괄 마감용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a.id from Auction a where a.id in :ids and a.status = :status")
+    List<Long> lockIdsByStatus(@Param("ids") Collection<Long> ids, @Param("status") AuctionStatus status);
+
+    // 일괄 상태 전환 (transitionStatus 와 같은 조건)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Auction a set a.status = :to, a.fenceToken = :token, a.updatedAt = local datetime " +
+            "where a.id in :ids and a.status = :from and (a.fenceToken is null or a.fenceToken <= :token)")
+    int transitionStatusAll(@Param("ids") Collection<Long> ids,
+                            @Param("from") AuctionStatus from,
+                            @Param("to") AuctionStatus to,
+                            @Param("token") long token);
+
+    // 입찰 없는 경매 일괄 유찰 처리
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Auction a set a.status = :ended, a.finalPrice = 0, a.winner = null, a.finalEndTime = a.endTime, " +
+            "a.fenceToken = :token, a.updatedAt = local datetime " +
+            "where a.id in :ids and a.status = :ongoing and (a.fenceToken is null or a.fenceToken <= :token)")
+    int closeWithoutWinner(@Param("ids") Collection<Long> ids,
+                           @Param("ongoing") AuctionStatus ongoing,
+                           @Param("ended") AuctionStatus ended,
+                           @Param("token") long token);
+
+    /**
+     * 낙찰 결과 기록 (유찰이면 winner = null, finalPrice = 0)
+     * finalEndTime = 연장이 반영된 실제 마감시각 (예정 마감시각 endTime 은 그대로 둠)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Auction a set a.winner = :winner, a.finalPrice = :finalPrice, a.finalEndTime = :finalEndTime, " +
+            "a.updatedAt = local datetime where a.id = :id")
+    int recordResult(@Param("id") Long id,
+                     @Param("winner") User winner,
+                     @Param("finalPrice") long finalPrice,
+                     @Param("finalEndTime") LocalDateTime finalEndTime);
+
+    /**
+     * 판매자 취소 (시작 전인 경우만, 스케줄러의 시작 전환과 동시에 실행되어도 한쪽만 성공)
+     * 반환값 0 = 이미 시작/종료/취소됨
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Auction a set a.status = :canceled, a.updatedAt = local datetime " +
+            "where a.id = :id and a.status = :scheduled")
+    int cancelScheduled(@Param("id") Long id,
+                        @Param("scheduled") AuctionStatus scheduled,
+                        @Param("canceled") AuctionStatus canceled);
+
+    /**
+     * 상태 전환 (현재 상태가 from 이고, 더 큰 펜싱 토큰으로 전환된 적이 없을 때만)
+     * 반환값 0 = 이미 다른 노드가 처리했거나 이전 리더의 요청
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Auction a set a.status = :to, a.fenceToken = :token, a.updatedAt = local datetime " +
+            "where a.id = :id and a.status = :from and (a.fenceToken is null or a.fenceToken <= :token)")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("from") AuctionStatus from,
+                         @Param("to") AuctionStatus to,
+                         @Param("token") long token);
 }
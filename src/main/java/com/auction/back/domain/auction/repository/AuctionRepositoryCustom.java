@@ -1,14 +1,27 @@
 package com.auction.back.domain.auction.repository;
 
 import com.auction.back.domain.auction.dto.request.AuctionSearchDto;
-import com.auction.back.domain.auction.entity.Auction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface AuctionRepositoryCustom {
 
     /**
-     * QueryDSL로 상태 & 키워드 검색 + 페이징
+     * QueryDSL로 상태 & 키워드 검색 + 페이징 (목록 컬럼만 DTO 로 조회)
+     */
+    Page<AuctionListView> searchAuctions(AuctionSearchDto condition, Pageable pageable);
+
+    /**
+     * 커서(마지막으로 본 id) 이후 검색 (id 역순, count 쿼리 없음)
+     */
+    Slice<AuctionListView> searchAuctions(AuctionSearchDto condition, Long cursor, int size);
+
+    /**
+     * id 목록 중 상태/품종 등 조건에 맞는 경매 (색인 결과 조회, 순서 보장 없음, condition 이 null 이면 조건 없음)
      */
-    Page<Auction> searchAuctions(AuctionSearchDto condition, Pageable pageable);
+    List<AuctionListView> findListViews(Collection<Long> ids, AuctionSearchDto condition);
 }
\ No newline at end of file
@@ -1,15 +1,23 @@
 package com.auction.back.domain.auction.repository;
 
 import com.auction.back.domain.auction.dto.request.AuctionSearchDto;
-import com.auction.back.domain.auction.entity.Auction;
-import com.auction.back.domain.auction.entity.QAuction;
 import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.global.utils.KeywordUtils;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import static com.auction.back.domain.auction.entity.QAuction.auction;
@@ -20,13 +28,16 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
+    @Value("${auction.search.description-max-chars:500}")
+    private int descriptionMaxChars;
+
     @Override
-    public Page<Auction> searchAuctions(AuctionSearchDto searchDto, Pageable pageable) {
-        List<Auction> content = queryFactory
-                .selectFrom(auction)
+    public Page<AuctionListView> searchAuctions(AuctionSearchDto searchDto, Pageable pageable) {
+        List<AuctionListView> content = selectListView()
                 .where(
                         statusEq(searchDto.getStatus()),
-                        keywordLike(searchDto.getKeyword())
+                        keywordMatch(searchDto),
+                        facetMatch(searchDto)
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -38,23 +49,101 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                 .from(auction)
                 .where(
                         statusEq(searchDto.getStatus()),
-                        keywordLike(searchDto.getKeyword())
+                        keywordMatch(searchDto),
+                        facetMatch(searchDto)
                 )
                 .fetchOne();
 
         return new PageImpl<>(content, pageable, total);
     }
 
+    @Override
+    public Slice<AuctionListView> searchAuctions(AuctionSearchDto searchDto, Long cursor, int size) {
+        // 다음 페이지 존재 여부는 한 건 더 조회해서 판단 (count 쿼리 없음)
+        List<AuctionListView> content = selectListView()
+                .where(
+                        statusEq(searchDto.getStatus()),
+                        keywordMatch(searchDto),
+                        facetMatch(searchDto),
+                        idLessThan(cursor)
+                )
+                .orderBy(auction.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    // 엔티티 대신 목록 컬럼만 조회 (description LOB / seller, winner 프록시 / 영속성 컨텍스트 적재 없음)
+    private JPAQuery<AuctionListView> selectListView() {
+        return queryFactory
+                .select(Projections.constructor(AuctionListView.class,
+                        auction.id,
+                        auction.title,
+                        auction.status,
+                        auction.image,
+                        auction.startPrice,
+                        auction.finalPrice,
+                        auction.startTime,
+                        auction.endTime))
+                .from(auction);
+    }
+
+    @Override
+    public List<AuctionListView> findListViews(Collection<Long> ids, AuctionSearchDto condition) {
+        return selectListView()
+                .where(
+                        auction.id.in(ids),
+                        condition != null ? statusEq(condition.getStatus()) : null,
+                        condition != null ? facetMatch(condition) : null
+                )
+                .fetch();
+    }
+
+    private BooleanExpression idLessThan(Long cursor) {
+        if (cursor == null) return null;
+        return auction.id.lt(cursor);
+    }
+
     private BooleanExpression statusEq(AuctionStatus status) {
         if (status == null) return null;
         return auction.status.eq(status);
     }
 
-    private BooleanExpression keywordLike(String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) return null;
-        return auction.title.containsIgnoreCase(keyword);
-        // or title+description:
-        // return auction.title.containsIgnoreCase(keyword)
-        //       .or(auction.description.containsIgnoreCase(keyword));
+    // 품종/성별/크기/판매자 지역 일치 (facet 색인 적재 전 또는 키워드 검색 결과 확인용)
+    private Predicate facetMatch(AuctionSearchDto searchDto) {
+        return ExpressionUtils.allOf(
+                stringEq(auction.species, searchDto.getSpecies()),
+                searchDto.getGender() != null ? auction.gender.eq(searchDto.getGender()) : null,
+                stringEq(auction.size, searchDto.getSize()),
+                stringEq(auction.sellerLocation, searchDto.getSellerLocation())
+        );
+    }
+
+    private BooleanExpression stringEq(StringPath path, String value) {
+        if (value == null || value.isBlank()) return null;
+        return path.eq(value.trim());
+    }
+
+    // 키워드 색인을 쓸 수 없을 때의 LIKE 검색, 색인과 같은 기준으로 일치
+    // - 검색어를 색인과 같은 규칙으로 단어 분리, 단어마다 제목/품종/설명(앞부분 description-max-chars 글자) 중 하나에 포함 (AND)
+    // - 취소된 경매 제외 (색인에 없음)
+    private Predicate keywordMatch(AuctionSearchDto searchDto) {
+        List<String> words = KeywordUtils.words(searchDto.getKeyword());
+        if (words.isEmpty()) return null;
+        // 설명은 LOB 이라 문자열로 변환 후 앞부분만 비교
+        StringExpression descriptionPrefix = Expressions.stringTemplate(
+                "substring(cast({0} as String), 1, {1})", auction.description, descriptionMaxChars);
+        BooleanExpression match = auction.status.ne(AuctionStatus.CANCELED);
+        for (String word : words) {
+            match = match.and(auction.title.containsIgnoreCase(word)
+                    .or(auction.species.containsIgnoreCase(word))
+                    .or(descriptionPrefix.containsIgnoreCase(word)));
+        }
+        return match;
     }
 }
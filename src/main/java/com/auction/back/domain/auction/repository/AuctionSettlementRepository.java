@@ -0,0 +1,40 @@
+package com.auction.back.domain.auction.repository;
+
+import com.auction.back.domain.auction.entity.AuctionSettlement;
+import com.auction.back.domain.auction.enums.SettlementStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AuctionSettlementRepository extends JpaRepository<AuctionSettlement, Long> {
+
+    /**
+     * 처리 시각이 된 정산 중 소유 파티션(mod(경매 ID, 파티션 수))에 속한 것만 조회
+     */
+    @Query("select s from AuctionSettlement s " +
+            "where s.status = :status and s.nextAttemptAt <= :now " +
+            "and mod(s.auctionId, :partitionCount) in :partitions " +
+            "order by s.id")
+    List<AuctionSettlement> findDue(@Param("status") SettlementStatus status,
+                                    @Param("now") LocalDateTime now,
+                                    @Param("partitionCount") int partitionCount,
+                                    @Param("partitions") Collection<Integer> partitions,
+                                    Pageable pageable);
+
+    /**
+     * PENDING → DONE (정산과 같은 트랜잭션에서 호출, 0 이면 이미 다른 노드/재시도에서 처리됨)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AuctionSettlement s set s.status = :done, s.processedAt = :processedAt " +
+            "where s.id = :id and s.status = :pending")
+    int complete(@Param("id") Long id,
+                 @Param("pending") SettlementStatus pending,
+                 @Param("done") SettlementStatus done,
+                 @Param("processedAt") LocalDateTime processedAt);
+}
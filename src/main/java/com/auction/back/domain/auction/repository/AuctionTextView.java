@@ -0,0 +1,10 @@
+package com.auction.back.domain.auction.repository;
+
+/**
+ * 키워드 색인용 조회 결과 (검색 대상 텍스트 컬럼만)
+ */
+public record AuctionTextView(Long id,
+                              String title,
+                              String description,
+                              String species) {
+}
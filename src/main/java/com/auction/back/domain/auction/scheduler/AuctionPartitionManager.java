@@ -0,0 +1,155 @@
+package com.auction.back.domain.auction.scheduler;
+
+import com.auction.back.domain.auction.dto.response.SchedulerPartitionStatsDto;
+import com.auction.back.global.cluster.ClusterMembership;
+import com.auction.back.global.cluster.ClusterNode;
+import com.auction.back.global.cluster.LeaseService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 경매 시작/마감 처리 파티션 관리
+ * - 경매 ID % 파티션 수로 파티션 결정, 파티션마다 Redis 리스 (소유 노드만 처리)
+ * - 살아있는 노드 목록(이름순)에서 파티션 p 는 p % 노드수 번째 노드에 배정
+ *   → 노드가 추가/이탈하면 배정이 바뀌고, 배정에서 빠진 노드는 리스 반납, 새로 배정된 노드가 획득
+ * - 이탈 노드의 리스는 만료 후 인계 (TTL 이내)
+ * - 갱신에 실패하면 리스 만료 전에 스스로 소유하지 않은 것으로 간주
+ * - 펜싱 토큰은 DB 상태 전환 조건에 사용 (이전 소유자의 늦은 처리 차단)
+ * - 소유 파티션(또는 토큰)이 바뀌면 등록된 리스너에 알림 (스케줄러가 대기 중이어도 바로 대기열을 다시 채우도록)
+ */
+@Slf4j
+@Component
+public class AuctionPartitionManager {
+
+    private static final String LEASE_PREFIX = "auction-partition-";
+
+    private final LeaseService leaseService;
+    private final ClusterMembership membership;
+    private final String nodeId;
+    private final int partitionCount;
+    private final long ttlMillis;
+    private final long renewMillis;
+
+    // 파티션 → 펜싱 토큰 (갱신 주기마다 새 맵으로 교체)
+    private volatile Map<Integer, Long> ownedPartitions = Map.of();
+    private volatile long validUntilMillis;
+    private volatile List<String> liveNodes = List.of();
+    private final List<Runnable> ownershipListeners = new CopyOnWriteArrayList<>();
+
+    public AuctionPartitionManager(LeaseService leaseService,
+                                   ClusterMembership membership,
+                                   ClusterNode clusterNode,
+                                   @Value("${auction.scheduler.partitions:16}") int partitionCount,
+                                   @Value("${auction.scheduler.lease-ttl-ms:5000}") long ttlMillis,
+                                   @Value("${auction.scheduler.lease-renew-ms:1000}") long renewMillis) {
+        this.leaseService = leaseService;
+        this.membership = membership;
+        this.nodeId = clusterNode.getNodeId();
+        this.partitionCount = partitionCount;
+        this.ttlMillis = ttlMillis;
+        this.renewMillis = renewMillis;
+    }
+
+    // DB 조회 조건(mod(id, 파티션 수))과 같은 계산
+    public int partitionOf(Long auctionId) {
+        return (int) Math.floorMod(auctionId, (long) partitionCount);
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * 소유 파티션이 바뀔 때 호출 (갱신 스레드에서 실행되므로 오래 걸리는 작업 금지)
+     */
+    public void addOwnershipListener(Runnable listener) {
+        ownershipListeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.scheduler.lease-renew-ms:1000}")
+    public void rebalance() {
+        long requestedAt = System.currentTimeMillis();
+        try {
+            List<String> nodes = membership.heartbeat(nodeId, ttlMillis);
+            int self = nodes.indexOf(nodeId);
+
+            Map<Integer, Long> owned = new HashMap<>();
+            for (int p = 0; p < partitionCount; p++) {
+                boolean assigned = self >= 0 && p % nodes.size() == self;
+                if (assigned) {
+                    long token = leaseService.tryAcquire(LEASE_PREFIX + p, nodeId, ttlMillis);
+                    if (token > 0) {
+                        owned.put(p, token);
+                    }
+                } else if (ownedPartitions.containsKey(p)) {
+                    leaseService.release(LEASE_PREFIX + p, nodeId);
+                }
+            }
+
+            boolean ownershipChanged = !owned.equals(ownedPartitions);
+            if (!owned.keySet().equals(ownedPartitions.keySet())) {
+                log.info("경매 파티션 배정 변경. nodeId={}, nodes={}, partitions={}", nodeId, nodes.size(), new TreeMap<>(owned).keySet());
+            }
+            liveNodes = nodes;
+            ownedPartitions = Collections.unmodifiableMap(owned);
+            // 요청 시각 기준으로 계산 (Redis 쪽 만료보다 먼저 끝나도록 갱신 주기만큼 여유)
+            validUntilMillis = requestedAt + ttlMillis - renewMillis;
+            if (ownershipChanged) {
+                ownershipListeners.forEach(Runnable::run);
+            }
+        } catch (RuntimeException e) {
+            log.warn("경매 파티션 리스 갱신 실패. nodeId={}, reason={}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 소유 파티션 → 펜싱 토큰 (리스가 만료되었을 수 있으면 빈 맵)
+     */
+    public Map<Integer, Long> currentOwnership() {
+        return System.currentTimeMillis() < validUntilMillis ? ownedPartitions : Map.of();
+    }
+
+    /**
+     * 경매가 속한 파티션을 소유 중이면 펜싱 토큰, 아니면 0
+     */
+    public long tokenFor(Long auctionId) {
+        return currentOwnership().getOrDefault(partitionOf(auctionId), 0L);
+    }
+
+    public SchedulerPartitionStatsDto getStats() {
+        SchedulerPartitionStatsDto dto = new SchedulerPartitionStatsDto();
+        dto.setNodeId(nodeId);
+        dto.setPartitionCount(partitionCount);
+        dto.setLiveNodes(liveNodes);
+        dto.setOwnedPartitions(new TreeMap<>(currentOwnership()));
+        Map<Integer, String> owners = new TreeMap<>();
+        for (int p = 0; p < partitionCount; p++) {
+            owners.put(p, leaseService.currentOwner(LEASE_PREFIX + p));
+        }
+        dto.setPartitionOwners(owners);
+        return dto;
+    }
+
+    @PreDestroy
+    public void leave() {
+        try {
+            for (Integer p : ownedPartitions.keySet()) {
+                leaseService.release(LEASE_PREFIX + p, nodeId);
+            }
+            membership.leave(nodeId);
+        } catch (RuntimeException e) {
+            log.warn("경매 파티션 리스 반납 실패. nodeId={}", nodeId);
+        }
+        ownedPartitions = Map.of();
+    }
+}
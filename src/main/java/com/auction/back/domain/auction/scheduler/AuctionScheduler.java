@@ -1,35 +1,427 @@
 package com.auction.back.domain.auction.scheduler;
 
-import com.auction.back.domain.auction.entity.Auction;
-import com.auction.back.domain.auction.enums.AuctionStatus;
-import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.auction.service.scheduled.AuctionDeadline;
+import com.auction.back.domain.auction.service.scheduled.AuctionDeadline.Kind;
 import com.auction.back.domain.auction.service.scheduled.AuctionScheduledService;
-import com.auction.back.domain.user.entity.User;
-import com.auction.back.domain.user.service.query.UserQueryService;
-import com.auction.back.global.redis.RedisService;
-import lombok.RequiredArgsConstructor;
+import com.auction.back.global.utils.TransactionUtils;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 경매 시작/마감 시각 기반 스케줄러
+ * - 시작 시 DB/Redis 에서 대기열을 한 번 채우고, 이후에는 다음 시각까지 잠들었다가 해당 경매만 처리
+ * - 등록/취소/마감 연장 시 대기열만 갱신 (주기적인 전체 조회 없음)
+ * - 대기열에는 이전 시각이 남아 있을 수 있으므로 꺼낼 때 현재 유효한 시각인지 비교해 무시
+ * - 경매별 처리는 각자 짧은 트랜잭션으로 제한된 크기의 스레드풀에서 병렬 실행
+ *   실패는 해당 경매만 지수 백오프로 재시도, 한도를 넘기면 dead letter 기록
+ * - 시작 prewarm-lead-seconds 전에 실시간 상태를 미리 적재 → 시작 시에는 시작 시점 DB 값(시작가/마감시각)으로 원자적으로 활성화
+ * - 경매 ID 해시 파티션을 소유한 노드만 처리 (AuctionPartitionManager), 소유 파티션이 바뀌면 해당 파티션 기준으로 대기열을 다시 채움
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AuctionScheduler {
+
+    // 시계 변경 등에 대비해 최대 대기시간은 제한 (대기열만 다시 확인, DB/Redis 조회 없음)
+    private static final long MAX_WAIT_MILLIS = 60_000L;
+
+    // 소유 파티션이 없을 때 소유 여부 재확인 간격
+    private static final long IDLE_WAIT_MILLIS = 1_000L;
+
     private final AuctionScheduledService auctionScheduledService;
+    private final AuctionPartitionManager partitionManager;
+    private final long retryDelayMillis;
+    private final int maxAttempts;
+    private final boolean bulkTransitions;
+    private final long prewarmLeadSeconds;
+    private final ThreadPoolExecutor workers;
+    // (경매, 종류)별 연속 실패 횟수
+    private final Map<String, Integer> failures = new ConcurrentHashMap<>();
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingLong(Entry::dueMillis));
+    private final Map<Long, Long> prewarmDeadlines = new HashMap<>();
+    private final Map<Long, Long> startDeadlines = new HashMap<>();
+    private final Map<Long, Long> endDeadlines = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private volatile boolean running;
+    private Thread worker;
+    // 대기열을 채운 시점의 소유 파티션 → 펜싱 토큰 (워커 스레드에서만 접근)
+    private Map<Integer, Long> seededOwnership = Map.of();
+
+    public AuctionScheduler(AuctionScheduledService auctionScheduledService,
+                            AuctionPartitionManager partitionManager,
+                            @Value("${auction.scheduler.retry-delay-ms:1000}") long retryDelayMillis,
+                            @Value("${auction.scheduler.max-attempts:5}") int maxAttempts,
+                            @Value("${auction.scheduler.workers:4}") int workerCount,
+                            @Value("${auction.scheduler.worker-queue-capacity:1000}") int workerQueueCapacity,
+                            @Value("${auction.scheduler.bulk-transitions:true}") boolean bulkTransitions,
+                            @Value("${auction.scheduler.prewarm-lead-seconds:30}") long prewarmLeadSeconds) {
+        this.auctionScheduledService = auctionScheduledService;
+        this.partitionManager = partitionManager;
+        this.retryDelayMillis = retryDelayMillis;
+        this.maxAttempts = maxAttempts;
+        this.bulkTransitions = bulkTransitions;
+        this.prewarmLeadSeconds = prewarmLeadSeconds;
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 큐가 가득 차면 스케줄러 스레드가 직접 처리 (자연스러운 배압)
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(workerQueueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "auction-lifecycle-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        // 소유 파티션이 바뀌면 대기 중인 스케줄러 스레드를 깨움 (최대 대기시간까지 기다리지 않고 바로 다시 채움)
+        partitionManager.addOwnershipListener(this::wakeUp);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "auction-scheduler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        workers.shutdown();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 후 반영
+     */
+    public void scheduleStart(Long auctionId, LocalDateTime startTime) {
+        TransactionUtils.afterCommit(() -> enqueueStart(AuctionDeadline.start(auctionId, startTime)));
+    }
+
+    public void scheduleEnd(Long auctionId, LocalDateTime endTime) {
+        TransactionUtils.afterCommit(() -> enqueue(AuctionDeadline.end(auctionId, endTime)));
+    }
+
+    public void cancel(Long auctionId) {
+        TransactionUtils.afterCommit(() -> {
+            lock.lock();
+            try {
+                prewarmDeadlines.remove(auctionId);
+                startDeadlines.remove(auctionId);
+                endDeadlines.remove(auctionId);
+            } finally {
+                lock.unlock();
+            }
+            try {
+                auctionScheduledService.discardStaged(auctionId);
+            } catch (RuntimeException e) {
+                log.warn("미리 적재된 경매 상태 삭제 실패 (TTL 로 정리됨). auctionId={}", auctionId, e);
+            }
+        });
+    }
+
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return prewarmDeadlines.size() + startDeadlines.size() + endDeadlines.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void wakeUp() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 시작 처리 + (설정 시) 그 전에 미리 적재
+    private void enqueueStart(AuctionDeadline start) {
+        if (prewarmLeadSeconds > 0) {
+            enqueue(AuctionDeadline.prewarm(start.auctionId(), start.dueTime().minusSeconds(prewarmLeadSeconds)));
+        }
+        enqueue(start);
+    }
+
+    private void enqueue(AuctionDeadline deadline) {
+        long dueMillis = deadline.dueTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        lock.lock();
+        try {
+            deadlinesOf(deadline.kind()).put(deadline.auctionId(), dueMillis);
+            queue.add(new Entry(deadline.auctionId(), deadline.kind(), dueMillis));
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            Map<Integer, Long> owned = partitionManager.currentOwnership();
+            if (!owned.isEmpty() && !owned.equals(seededOwnership) && !seed(owned)) {
+                sleepQuietly(retryDelayMillis);
+                continue;
+            }
+            List<Entry> due;
+            try {
+                due = drainDue(!owned.isEmpty());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!due.isEmpty()) {
+                fire(due, owned);
+            }
+        }
+    }
+
+    // 소유 파티션 변경 → 다른 노드에서 등록/연장된 경매까지 포함해 소유 파티션의 대기열을 다시 채움
+    private boolean seed(Map<Integer, Long> owned) {
+        try {
+            List<AuctionDeadline> deadlines = auctionScheduledService.loadDeadlines().stream()
+                    .filter(d -> owned.containsKey(partitionManager.partitionOf(d.auctionId())))
+                    .toList();
+            lock.lock();
+            try {
+                queue.clear();
+                prewarmDeadlines.clear();
+                startDeadlines.clear();
+                endDeadlines.clear();
+            } finally {
+                lock.unlock();
+            }
+            deadlines.forEach(d -> {
+                if (d.kind() == Kind.START) {
+                    enqueueStart(d);
+                } else {
+                    enqueue(d);
+                }
+            });
+            seededOwnership = owned;
+            log.info("경매 스케줄 대기열 적재. count={}, partitions={}", deadlines.size(), owned.keySet());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("경매 스케줄 대기열 적재 실패", e);
+            return false;
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    // 다음 시각까지 대기 후 지금 처리할 유효한 항목을 모두 꺼냄 (대기 중 대기열이 바뀌면 다시 확인)
+    // 소유 파티션이 없으면 소유 여부를 자주 확인
+    private List<Entry> drainDue(boolean owning) throws InterruptedException {
+        long maxWaitMillis = owning ? MAX_WAIT_MILLIS : IDLE_WAIT_MILLIS;
+        lock.lock();
+        try {
+            Entry next = queue.peek();
+            if (next == null) {
+                changed.await(maxWaitMillis, TimeUnit.MILLISECONDS);
+                return List.of();
+            }
+            long now = System.currentTimeMillis();
+            long waitMillis = next.dueMillis() - now;
+            if (waitMillis > 0) {
+                changed.await(Math.min(waitMillis, maxWaitMillis), TimeUnit.MILLISECONDS);
+                return List.of();
+            }
+            List<Entry> due = new ArrayList<>();
+            while ((next = queue.peek()) != null && next.dueMillis() <= now) {
+                queue.poll();
+                Map<Long, Long> deadlines = deadlinesOf(next.kind());
+                Long current = deadlines.get(next.auctionId());
+                if (current == null || current != next.dueMillis()) {
+                    continue; // 취소되었거나 다른 시각으로 바뀐 항목
+                }
+                deadlines.remove(next.auctionId());
+                due.add(next);
+            }
+            return due;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 소유하지 않은 파티션의 항목은 버림 (소유하게 되면 다시 채움)
+    private void fire(List<Entry> due, Map<Integer, Long> owned) {
+        Map<Integer, List<Long>> prewarms = new TreeMap<>();
+        Map<Integer, List<Long>> starts = new TreeMap<>();
+        Map<Integer, Set<Long>> ends = new TreeMap<>();
+        for (Entry entry : due) {
+            int partition = partitionManager.partitionOf(entry.auctionId());
+            if (!owned.containsKey(partition)) {
+                continue;
+            }
+            if (entry.kind() == Kind.PREWARM) {
+                prewarms.computeIfAbsent(partition, k -> new ArrayList<>()).add(entry.auctionId());
+            } else if (entry.kind() == Kind.START) {
+                starts.computeIfAbsent(partition, k -> new ArrayList<>()).add(entry.auctionId());
+            } else {
+                ends.computeIfAbsent(partition, k -> new LinkedHashSet<>()).add(entry.auctionId());
+            }
+        }
+
+        // 미리 적재는 실패해도 시작 시 새로 저장하므로 재시도하지 않음
+        prewarms.values().forEach(auctionIds -> workers.execute(() -> prewarm(auctionIds)));
+
+        starts.forEach((partition, auctionIds) -> {
+            long token = owned.get(partition);
+            if (bulkTransitions) {
+                workers.execute(() -> startPartition(partition, token, auctionIds));
+            } else {
+                auctionIds.forEach(auctionId -> submit(auctionId, Kind.START, token));
+            }
+        });
+
+        if (ends.isEmpty()) {
+            return;
+        }
+        // 마감은 인덱스 범위 조회로 지금 마감할 경매를 한 번에 처리 (다른 노드에서 등록/연장된 경매 포함)
+        // 소유 파티션의 경매만, 각 파티션의 펜싱 토큰으로 처리
+        try {
+            for (Long auctionId : auctionScheduledService.findDueAuctionIds()) {
+                int partition = partitionManager.partitionOf(auctionId);
+                if (owned.containsKey(partition)) {
+                    ends.computeIfAbsent(partition, k -> new LinkedHashSet<>()).add(auctionId);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("마감 대상 조회 실패", e);
+        }
+        ends.forEach((partition, auctionIds) -> {
+            long token = owned.get(partition);
+            if (bulkTransitions) {
+                List<Long> ids = List.copyOf(auctionIds);
+                workers.execute(() -> closePartition(token, ids));
+            } else {
+                auctionIds.forEach(auctionId -> submit(auctionId, Kind.END, token));
+            }
+        });
+    }
+
+    private void prewarm(List<Long> auctionIds) {
+        try {
+            auctionScheduledService.prewarm(auctionIds);
+        } catch (RuntimeException e) {
+            log.warn("경매 상태 미리 적재 실패, 시작 시 새로 저장. count={}, reason={}", auctionIds.size(), e.getMessage());
+        }
+    }
+
+    // 워커 스레드에서 실행 (파티션 1개 = 트랜잭션 1개), 실패하거나 일괄 시작되지 않은 경매는 개별 처리
+    private void startPartition(int partition, long token, List<Long> auctionIds) {
+        Set<Long> started = new HashSet<>();
+        try {
+            for (AuctionDeadline next : auctionScheduledService.startDueAuctions(
+                    partitionManager.getPartitionCount(), partition, token)) {
+                started.add(next.auctionId());
+                enqueue(next);
+            }
+        } catch (RuntimeException e) {
+            log.warn("경매 일괄 시작 실패, 개별 처리. partition={}, reason={}", partition, e.getMessage());
+        }
+        auctionIds.stream()
+                .filter(auctionId -> !started.contains(auctionId))
+                .forEach(auctionId -> process(auctionId, Kind.START, token));
+    }
+
+    // 워커 스레드에서 실행, 입찰 없는 경매는 일괄 유찰 처리하고 나머지(낙찰/연장 등)는 개별 처리
+    private void closePartition(long token, List<Long> auctionIds) {
+        List<Long> remaining = auctionIds;
+        try {
+            remaining = auctionScheduledService.closeNoBidAuctions(auctionIds, token);
+        } catch (RuntimeException e) {
+            log.warn("경매 일괄 유찰 실패, 개별 처리. count={}, reason={}", auctionIds.size(), e.getMessage());
+        }
+        remaining.forEach(auctionId -> process(auctionId, Kind.END, token));
+    }
+
+    private void submit(Long auctionId, Kind kind, long token) {
+        workers.execute(() -> process(auctionId, kind, token));
+    }
+
+    // 워커 스레드에서 실행 (경매 1건 = 트랜잭션 1개)
+    private void process(Long auctionId, Kind kind, long token) {
+        String failureKey = kind + ":" + auctionId;
+        try {
+            AuctionDeadline next = kind == Kind.START
+                    ? auctionScheduledService.startAuction(auctionId, token)
+                    : auctionScheduledService.endAuction(auctionId, token);
+            failures.remove(failureKey);
+            // 시작 후 마감, 또는 연장된 마감 시각
+            if (next != null) {
+                enqueue(next);
+            }
+        } catch (RuntimeException e) {
+            int attempts = failures.merge(failureKey, 1, Integer::sum);
+            if (attempts >= maxAttempts) {
+                failures.remove(failureKey);
+                log.error("경매 스케줄 처리 재시도 한도 초과, dead letter 기록. auctionId={}, kind={}, attempts={}",
+                        auctionId, kind, attempts, e);
+                recordDeadLetter(new AuctionDeadline(auctionId, kind, LocalDateTime.now()), attempts, e);
+                return;
+            }
+            long delayMillis = retryDelayMillis << Math.min(attempts - 1, 10);
+            log.warn("경매 스케줄 처리 실패, {}ms 후 재시도. auctionId={}, kind={}, attempts={}, reason={}",
+                    delayMillis, auctionId, kind, attempts, e.getMessage());
+            enqueue(new AuctionDeadline(auctionId, kind,
+                    LocalDateTime.now().plusNanos(delayMillis * 1_000_000)));
+        }
+    }
+
+    private void recordDeadLetter(AuctionDeadline deadline, int attempts, Throwable error) {
+        try {
+            auctionScheduledService.recordDeadLetter(deadline, attempts, error);
+        } catch (RuntimeException e) {
+            log.error("dead letter 기록 실패. auctionId={}", deadline.auctionId(), e);
+        }
+    }
 
-    @Scheduled(fixedDelay = 1000)
-    public void scheduleCheckAuctionEnd() {
-        // 스케줄러는 트랜잭션이 없음. 서비스 메소드만 호출
-        auctionScheduledService.checkAuctionEnd();
+    private Map<Long, Long> deadlinesOf(Kind kind) {
+        return switch (kind) {
+            case PREWARM -> prewarmDeadlines;
+            case START -> startDeadlines;
+            case END -> endDeadlines;
+        };
     }
 
-    @Scheduled(fixedDelay = 1000)
-    public void scheduleCheckAuctionStart() {
-        auctionScheduledService.checkAuctionStart();
+    private record Entry(Long auctionId, Kind kind, long dueMillis) {
     }
 
 //    private final AuctionRepository auctionRepository;
@@ -0,0 +1,45 @@
+package com.auction.back.domain.auction.scheduler;
+
+import com.auction.back.domain.auction.entity.AuctionSettlement;
+import com.auction.back.domain.auction.service.settlement.AuctionSettlementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 정산 outbox 배치 처리 (소유한 파티션의 경매만 조회 조건으로 걸러서 읽음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementOutboxDispatcher {
+
+    private final AuctionSettlementService settlementService;
+    private final AuctionPartitionManager partitionManager;
+
+    @Value("${auction.settlement.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${auction.settlement.poll-interval-ms:1000}")
+    public void dispatch() {
+        Set<Integer> owned = partitionManager.currentOwnership().keySet();
+        if (owned.isEmpty()) {
+            return;
+        }
+        List<AuctionSettlement> batch = settlementService.findPending(partitionManager.getPartitionCount(), owned, batchSize);
+        for (AuctionSettlement settlement : batch) {
+            try {
+                settlementService.settle(settlement.getId());
+            } catch (RuntimeException e) {
+                log.warn("정산 실패, 재시도 예정. settlementId={}, auctionId={}, reason={}",
+                        settlement.getId(), settlement.getAuctionId(), e.getMessage());
+                settlementService.recordFailure(settlement.getId(), e);
+            }
+        }
+    }
+}
@@ -4,17 +4,24 @@ import com.auction.back.domain.auction.dto.request.AuctionCreateRequestDto;
 import com.auction.back.domain.auction.dto.request.AuctionUpdateRequestDto;
 import com.auction.back.domain.auction.entity.Auction;
 import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionFacetView;
 import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.auction.repository.AuctionTextView;
+import com.auction.back.domain.auction.scheduler.AuctionScheduler;
+import com.auction.back.domain.auction.service.search.AuctionFacetIndex;
+import com.auction.back.domain.auction.service.search.AuctionKeywordIndex;
 import com.auction.back.domain.user.entity.User;
 import com.auction.back.domain.user.service.query.UserQueryService;
 import com.auction.back.global.enums.Gender;
 import com.auction.back.global.utils.FileStorageUtils;
+import com.auction.back.global.utils.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +30,9 @@ public class AuctionCommandServiceImpl implements AuctionCommandService {
 
     private final AuctionRepository auctionRepository;
     private final UserQueryService userQueryService;
+    private final AuctionScheduler auctionScheduler;
+    private final AuctionKeywordIndex keywordIndex;
+    private final AuctionFacetIndex facetIndex;
 
     // 이미지 저장 폴더: user.dir + "/src/main/resources/images/auction"
     private static final String BASE_DIRECTORY = System.getProperty("user.dir") + "/src/main/resources/images/auction";
@@ -51,6 +61,10 @@ public class AuctionCommandServiceImpl implements AuctionCommandService {
 
         // DB 저장
         Auction savedAuction = auctionRepository.save(auction);
+        // 시작시각 스케줄 등록 (커밋 후)
+        auctionScheduler.scheduleStart(savedAuction.getId(), savedAuction.getStartTime());
+        // 키워드/조건 색인 등록 (커밋 후)
+        indexAfterCommit(savedAuction);
 
         // 3) 이미지 파일 처리
         MultipartFile imageFile = dto.getImageFile();
@@ -89,6 +103,7 @@ public class AuctionCommandServiceImpl implements AuctionCommandService {
                 dto.getSpecies(),
                 dto.getDescription()
         );
+        indexAfterCommit(auction);
 
         // 새 이미지 파일이 있다면
         MultipartFile newImageFile = dto.getImageFile();
@@ -119,7 +134,26 @@ public class AuctionCommandServiceImpl implements AuctionCommandService {
         if (!auction.getSeller().getEmail().equals(userEmail)) {
             throw new RuntimeException("경매 취소 권한이 없습니다.");
         }
-        auction.updateStatus(AuctionStatus.CANCELED);
+        // 시작 후에는 취소 불가 (진행중 입찰의 보류 포인트/실시간 상태/마감시각 인덱스가 남지 않도록)
+        if (auctionRepository.cancelScheduled(auctionId, AuctionStatus.SCHEDULED, AuctionStatus.CANCELED) == 0) {
+            throw new RuntimeException("진행중/종료된 경매는 취소할 수 없습니다.");
+        }
+        auctionScheduler.cancel(auctionId);
+        TransactionUtils.afterCommit(() -> {
+            keywordIndex.remove(auctionId);
+            facetIndex.updateStatus(List.of(auctionId), AuctionStatus.CANCELED);
+        });
+    }
+
+    private void indexAfterCommit(Auction auction) {
+        AuctionTextView text = new AuctionTextView(
+                auction.getId(), auction.getTitle(), auction.getDescription(), auction.getSpecies());
+        AuctionFacetView facets = new AuctionFacetView(auction.getId(), auction.getStatus(), auction.getSpecies(),
+                auction.getGender(), auction.getSize(), auction.getSellerLocation());
+        TransactionUtils.afterCommit(() -> {
+            keywordIndex.index(text);
+            facetIndex.index(facets);
+        });
     }
 
     private String getExtension(String filename) {
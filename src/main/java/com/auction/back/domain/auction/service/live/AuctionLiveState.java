@@ -0,0 +1,12 @@
+package com.auction.back.domain.auction.service.live;
+
+/**
+ * 진행중 경매의 실시간 상태 (Redis 해시 auction:{id}:live 한 개)
+ * 값이 없는 필드는 null
+ */
+public record AuctionLiveState(String status, String endTime, String highestPrice, String highestBidder) {
+
+    public boolean hasBidder() {
+        return highestBidder != null && !highestBidder.isEmpty();
+    }
+}
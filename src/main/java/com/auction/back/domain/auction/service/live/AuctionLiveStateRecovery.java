@@ -0,0 +1,256 @@
+package com.auction.back.domain.auction.service.live;
+
+import com.auction.back.domain.auction.dto.response.LiveStateRecoveryDto;
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionLifecycleView;
+import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.bid.entity.Bid;
+import com.auction.back.domain.bid.repository.BidRepository;
+import com.auction.back.global.cluster.ClusterNode;
+import com.auction.back.global.cluster.LeaseService;
+import com.auction.back.global.utils.DateTimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 실시간 상태 복구 / DB 와 맞추기
+ * - Redis 재시작 등으로 진행중(ONGOING) 경매의 실시간 상태가 사라지면 입찰이 모두 거절되고 마감도 처리되지 않음
+ * - 기동 시 진행중 경매를 배치로 나눠 병렬로 확인 (배치당 Redis 파이프라인 조회 1회 + 입찰 이력 조회 1~2회 + 파이프라인 저장 1회)
+ *   - 상태 없음 → DB(마감시각, 시작가) + 입찰 이력(최고 입찰, 마감 연장 재계산)으로 다시 만듦
+ *   - 최고가가 입찰 이력보다 낮음(Redis 쓰기 유실) → 입찰 이력 기준으로 바로잡음
+ *   - 저장은 조건부 스크립트 (그 사이 들어온 실시간 입찰의 더 높은 최고가는 덮어쓰지 않음)
+ *   - 마감시각 인덱스 누락 → 인덱스만 다시 등록
+ * - 입찰 이력은 비동기 배치로 저장되므로, 저장 전 버퍼에 있던 입찰은 복구되지 않음
+ * - 스케줄러가 대기열을 채우기 전에 실행 (마감시각 인덱스 기준으로 대기열을 채우므로)
+ * - 전체 복구는 리스를 획득한 노드 1곳에서만 실행 (여러 노드가 동시에 기동/호출해도 한 번만)
+ */
+@Slf4j
+@Component
+public class AuctionLiveStateRecovery {
+
+    // 입찰 스크립트(place_bid.lua)와 같은 연장 규칙: 마감 3분 이내 입찰 → 입찰 시각 + 5분
+    private static final long EXTEND_WINDOW_MINUTES = 3;
+    private static final long EXTEND_MINUTES = 5;
+
+    private static final String LEASE_NAME = "auction-live-state-recovery";
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final AuctionLiveStateStore liveStateStore;
+    private final LeaseService leaseService;
+    private final String nodeId;
+    private final boolean onStartup;
+    private final long leaseTtlMillis;
+    private final int batchSize;
+    private final int parallelism;
+
+    public AuctionLiveStateRecovery(AuctionRepository auctionRepository,
+                                    BidRepository bidRepository,
+                                    AuctionLiveStateStore liveStateStore,
+                                    LeaseService leaseService,
+                                    ClusterNode clusterNode,
+                                    @Value("${auction.recovery.on-startup:true}") boolean onStartup,
+                                    @Value("${auction.recovery.lease-ttl-ms:600000}") long leaseTtlMillis,
+                                    @Value("${auction.recovery.batch-size:500}") int batchSize,
+                                    @Value("${auction.recovery.parallelism:4}") int parallelism) {
+        this.auctionRepository = auctionRepository;
+        this.bidRepository = bidRepository;
+        this.liveStateStore = liveStateStore;
+        this.leaseService = leaseService;
+        this.nodeId = clusterNode.getNodeId();
+        this.onStartup = onStartup;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    // 스케줄러 기동(ApplicationReadyEvent)보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        if (!onStartup) {
+            return;
+        }
+        try {
+            recoverAll();
+        } catch (IllegalStateException e) {
+            log.info("경매 실시간 상태 복구 생략. reason={}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("경매 실시간 상태 복구 실패", e);
+        }
+    }
+
+    /**
+     * 전체 진행중 경매 확인/복구 (리스를 획득한 경우에만, 끝나면 반납)
+     * @throws IllegalStateException 다른 노드에서 복구 중
+     */
+    public LiveStateRecoveryDto recoverAll() {
+        if (leaseService.tryAcquire(LEASE_NAME, nodeId, leaseTtlMillis) == 0) {
+            throw new IllegalStateException("다른 노드에서 경매 실시간 상태를 복구 중입니다.");
+        }
+        try {
+            return doRecoverAll();
+        } finally {
+            leaseService.release(LEASE_NAME, nodeId);
+        }
+    }
+
+    private LiveStateRecoveryDto doRecoverAll() {
+        long startNanos = System.nanoTime();
+        List<AuctionLifecycleView> ongoing = auctionRepository.findLifecycleByStatus(AuctionStatus.ONGOING);
+        Map<Long, LocalDateTime> indexed = liveStateStore.getEndTimes();
+
+        Counts counts = new Counts();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread t = new Thread(r, "auction-recovery");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int from = 0; from < ongoing.size(); from += batchSize) {
+                List<AuctionLifecycleView> batch = ongoing.subList(from, Math.min(from + batchSize, ongoing.size()));
+                futures.add(CompletableFuture.runAsync(() -> recoverBatch(batch, indexed, counts), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        LiveStateRecoveryDto dto = new LiveStateRecoveryDto();
+        dto.setChecked(ongoing.size());
+        dto.setRebuilt(counts.rebuilt.get());
+        dto.setRepaired(counts.repaired.get());
+        dto.setReindexed(counts.reindexed.get());
+        dto.setElapsedMillis((System.nanoTime() - startNanos) / 1_000_000);
+        log.info("경매 실시간 상태 복구 완료. checked={}, rebuilt={}, repaired={}, reindexed={}, elapsed={}ms",
+                dto.getChecked(), dto.getRebuilt(), dto.getRepaired(), dto.getReindexed(), dto.getElapsedMillis());
+        return dto;
+    }
+
+    /**
+     * 경매 1건 복구 (마감 처리 시 실시간 상태가 없을 때)
+     * @return 복구된 상태
+     */
+    public AuctionLiveState recover(AuctionLifecycleView auction) {
+        recoverBatch(List.of(auction), Map.of(), new Counts());
+        return liveStateStore.get(auction.id());
+    }
+
+    private void recoverBatch(List<AuctionLifecycleView> batch, Map<Long, LocalDateTime> indexed, Counts counts) {
+        List<Long> ids = batch.stream().map(AuctionLifecycleView::id).toList();
+        Map<Long, AuctionLiveState> states = liveStateStore.getAll(ids);
+        Map<Long, Bid> winningBids = new HashMap<>();
+        for (Bid bid : bidRepository.findWinningBids(ids)) {
+            winningBids.put(bid.getAuctionId(), bid);
+        }
+
+        List<AuctionLifecycleView> missing = new ArrayList<>();
+        List<AuctionLifecycleView> diverged = new ArrayList<>();
+        Map<Long, LocalDateTime> unindexed = new HashMap<>();
+        for (AuctionLifecycleView auction : batch) {
+            AuctionLiveState state = states.get(auction.id());
+            Bid winningBid = winningBids.get(auction.id());
+            if (state == null || !"ONGOING".equals(state.status()) || state.endTime() == null) {
+                missing.add(auction);
+            } else if (winningBid != null && winningBid.getAmount() > parsePrice(state.highestPrice())) {
+                diverged.add(auction);
+            } else if (!indexed.containsKey(auction.id())) {
+                unindexed.put(auction.id(), LocalDateTime.parse(state.endTime()));
+            }
+        }
+
+        List<AuctionLifecycleView> toRestore = new ArrayList<>(missing);
+        toRestore.addAll(diverged);
+        Map<Long, AuctionLiveState> restored = new HashMap<>();
+        if (!toRestore.isEmpty()) {
+            Map<Long, List<LocalDateTime>> bidTimes = findBidTimes(toRestore, winningBids.keySet());
+            for (AuctionLifecycleView auction : toRestore) {
+                Bid winningBid = winningBids.get(auction.id());
+                LocalDateTime endTime = replayEndTime(auction.endTime(),
+                        bidTimes.getOrDefault(auction.id(), List.of()));
+                AuctionLiveState current = states.get(auction.id());
+                if (current != null && current.endTime() != null) {
+                    // 남아있는 상태가 더 늦은 마감(이력 저장 전 입찰로 연장)이면 유지
+                    LocalDateTime currentEndTime = LocalDateTime.parse(current.endTime());
+                    endTime = currentEndTime.isAfter(endTime) ? currentEndTime : endTime;
+                }
+                restored.put(auction.id(), new AuctionLiveState(
+                        "ONGOING",
+                        DateTimeUtils.toRedisString(endTime),
+                        String.valueOf(winningBid != null ? winningBid.getAmount() : auction.startPrice()),
+                        winningBid != null ? winningBid.getBidderEmail() : ""));
+            }
+        }
+
+        Map<Long, String> previousBidders = new HashMap<>();
+        restored.keySet().forEach(auctionId -> {
+            AuctionLiveState before = states.get(auctionId);
+            if (before != null && before.hasBidder()) {
+                previousBidders.put(auctionId, before.highestBidder());
+            }
+        });
+        liveStateStore.restoreAll(restored, previousBidders);
+        liveStateStore.reindexAll(unindexed);
+
+        counts.rebuilt.addAndGet(missing.size());
+        counts.repaired.addAndGet(diverged.size());
+        counts.reindexed.addAndGet(unindexed.size());
+        if (!restored.isEmpty()) {
+            log.warn("경매 실시간 상태 복구. rebuilt={}, repaired={}",
+                    missing.stream().map(AuctionLifecycleView::id).toList(),
+                    diverged.stream().map(AuctionLifecycleView::id).toList());
+        }
+    }
+
+    // 마감 연장에 영향을 줄 수 있는 입찰(원래 마감 3분 전 이후)만 조회, 입찰 없는 경매는 조회 생략
+    private Map<Long, List<LocalDateTime>> findBidTimes(List<AuctionLifecycleView> auctions, Set<Long> withBids) {
+        List<AuctionLifecycleView> targets = auctions.stream().filter(a -> withBids.contains(a.id())).toList();
+        if (targets.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime since = targets.stream()
+                .map(AuctionLifecycleView::endTime)
+                .min(Comparator.naturalOrder())
+                .orElseThrow()
+                .minusMinutes(EXTEND_WINDOW_MINUTES);
+        Map<Long, List<LocalDateTime>> bidTimes = new HashMap<>();
+        for (Object[] row : bidRepository.findBidTimesSince(targets.stream().map(AuctionLifecycleView::id).toList(), since)) {
+            bidTimes.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((LocalDateTime) row[1]);
+        }
+        return bidTimes;
+    }
+
+    // 입찰 순서대로 연장 규칙 재적용 → 현재 마감시각
+    static LocalDateTime replayEndTime(LocalDateTime endTime, List<LocalDateTime> bidTimes) {
+        LocalDateTime current = endTime;
+        for (LocalDateTime bidTime : bidTimes) {
+            if (!bidTime.isAfter(current) && !current.isAfter(bidTime.plusMinutes(EXTEND_WINDOW_MINUTES))) {
+                current = bidTime.plusMinutes(EXTEND_MINUTES);
+            }
+        }
+        return current;
+    }
+
+    private static long parsePrice(String price) {
+        return price == null || price.isEmpty() ? 0L : Long.parseLong(price);
+    }
+
+    private static class Counts {
+        private final AtomicInteger rebuilt = new AtomicInteger();
+        private final AtomicInteger repaired = new AtomicInteger();
+        private final AtomicInteger reindexed = new AtomicInteger();
+    }
+}
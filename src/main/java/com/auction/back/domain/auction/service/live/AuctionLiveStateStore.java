@@ -0,0 +1,274 @@
+package com.auction.back.domain.auction.service.live;
+
+import com.auction.back.domain.auction.entity.Auction;
+import com.auction.back.domain.auction.repository.AuctionLifecycleView;
+import com.auction.back.domain.user.service.point.PointRedisKeys;
+import com.auction.back.global.redis.RedisService;
+import com.auction.back.global.utils.DateTimeUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * 경매 실시간 상태 저장소
+ * - 경매당 해시 1개 (status, endTime, highestPrice, highestBidder)
+ * - 조회는 HMGET 1회, 여러 경매는 파이프라인 1회
+ * - TTL 은 실제 마감시각 + 유예시간 (입찰로 마감이 연장되면 입찰 스크립트에서 함께 연장)
+ * - 진행중 경매 마감시각 인덱스 = 정렬 집합 1개 (점수 = 마감 epoch millis, 연장 시 입찰 스크립트에서 갱신)
+ * - 시작 전 미리 적재(status = SCHEDULED, 입찰 거부) → 시작 시 활성화 스크립트로 시작 시점 DB 값(시작가/마감시각)을 덮어쓰며 원자적으로 전환
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionLiveStateStore {
+
+    public static final String STATUS = "status";
+    public static final String END_TIME = "endTime";
+    public static final String HIGHEST_PRICE = "highestPrice";
+    public static final String HIGHEST_BIDDER = "highestBidder";
+
+    public static final String END_TIME_INDEX_KEY = "auction:end-times";
+
+    private static final RedisScript<Long> STAGE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/stage_auction.lua"), Long.class);
+    private static final byte[] STAGE_SCRIPT_BYTES = bytes(STAGE_SCRIPT.getScriptAsString());
+    private static final RedisScript<String> ACTIVATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/activate_auction.lua"), String.class);
+    private static final byte[] ACTIVATE_SCRIPT_BYTES = bytes(ACTIVATE_SCRIPT.getScriptAsString());
+
+    private static final RedisScript<Long> RESTORE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/restore_live_state.lua"), Long.class);
+    private static final byte[] RESTORE_SCRIPT_BYTES = bytes(RESTORE_SCRIPT.getScriptAsString());
+
+    private static final List<String> FIELDS = List.of(STATUS, END_TIME, HIGHEST_PRICE, HIGHEST_BIDDER);
+
+    private final RedisService redisService;
+
+    @Value("${auction.live-state.ttl-grace-seconds:3600}")
+    private long ttlGraceSeconds;
+
+    public static String key(Long auctionId) {
+        return "auction:" + auctionId + ":live";
+    }
+
+    /**
+     * 경매 시작 시 초기 상태 (최고가 = 시작가, 입찰자 없음)
+     */
+    public void init(Auction auction) {
+        init(auction.getId(), auction.getEndTime(), auction.getStartPrice());
+    }
+
+    public void init(Long auctionId, LocalDateTime endTime, long startPrice) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(STATUS, "ONGOING");
+        fields.put(END_TIME, DateTimeUtils.toRedisString(endTime));
+        fields.put(HIGHEST_PRICE, String.valueOf(startPrice));
+        fields.put(HIGHEST_BIDDER, "");
+
+        String key = key(auctionId);
+        redisService.setHash(key, fields);
+        redisService.expireAt(key, expireAt(endTime).toInstant());
+        redisService.addToSortedSet(END_TIME_INDEX_KEY, String.valueOf(auctionId), epochMillis(endTime));
+    }
+
+    /**
+     * 시작 전 미리 적재 (status = SCHEDULED 라 입찰은 거부됨, 마감시각 인덱스에는 활성화 시 추가)
+     * 이미 상태가 있으면(적재/활성화됨) 덮어쓰지 않음
+     */
+    public boolean stage(AuctionLifecycleView auction) {
+        Long staged = redisService.executeScript(STAGE_SCRIPT, List.of(key(auction.id())), stageArgs(auction));
+        return staged != null && staged == 1L;
+    }
+
+    // 여러 경매를 파이프라인 1회로 미리 적재
+    public void stageAll(List<AuctionLifecycleView> auctions) {
+        if (auctions.isEmpty()) {
+            return;
+        }
+        redisService.executePipelined(connection -> {
+            for (AuctionLifecycleView auction : auctions) {
+                connection.scriptingCommands().eval(STAGE_SCRIPT_BYTES, ReturnType.INTEGER, 1,
+                        keysAndArgs(List.of(key(auction.id())), stageArgs(auction)));
+            }
+        });
+    }
+
+    /**
+     * 경매 시작 시 활성화 (미리 적재 여부와 관계없이 시작 시점 DB 값으로 초기 상태 저장) + 마감시각 인덱스 등록
+     * @return WARM / COLD / ACTIVE (activate_auction.lua 참고)
+     */
+    public String activate(AuctionLifecycleView auction) {
+        return redisService.executeScript(ACTIVATE_SCRIPT,
+                List.of(key(auction.id()), END_TIME_INDEX_KEY), activateArgs(auction));
+    }
+
+    // 여러 경매를 파이프라인 1회로 활성화 (일괄 시작)
+    public void activateAll(List<AuctionLifecycleView> auctions) {
+        if (auctions.isEmpty()) {
+            return;
+        }
+        redisService.executePipelined(connection -> {
+            for (AuctionLifecycleView auction : auctions) {
+                connection.scriptingCommands().eval(ACTIVATE_SCRIPT_BYTES, ReturnType.VALUE, 2,
+                        keysAndArgs(List.of(key(auction.id()), END_TIME_INDEX_KEY), activateArgs(auction)));
+            }
+        });
+    }
+
+    /**
+     * 복구한 상태를 파이프라인 1회로 조건부 저장 (restore_live_state.lua, 해시 + TTL + 마감시각 인덱스 + 보류 포인트)
+     * 조회 이후 실시간 입찰로 최고가가 같거나 높아졌으면 해당 경매는 저장하지 않음
+     * @param previousBidders 조회 시점의 최고입찰자 (상태가 없었으면 생략)
+     */
+    public void restoreAll(Map<Long, AuctionLiveState> states, Map<Long, String> previousBidders) {
+        if (states.isEmpty()) {
+            return;
+        }
+        redisService.executePipelined(connection -> states.forEach((auctionId, state) -> {
+            String bidder = state.highestBidder() == null ? "" : state.highestBidder();
+            String previousBidder = previousBidders.getOrDefault(auctionId, "");
+            List<String> keys = new ArrayList<>(List.of(key(auctionId), END_TIME_INDEX_KEY));
+            if (!bidder.isEmpty()) {
+                keys.add(PointRedisKeys.holdsKey(bidder));
+            }
+            if (!previousBidder.isEmpty() && !previousBidder.equals(bidder)) {
+                keys.add(PointRedisKeys.holdsKey(previousBidder));
+            }
+            LocalDateTime endTime = LocalDateTime.parse(state.endTime());
+            String[] args = {
+                    state.endTime(),
+                    state.highestPrice(),
+                    bidder,
+                    String.valueOf(expireAtMillis(endTime)),
+                    String.valueOf(epochMillis(endTime)),
+                    String.valueOf(auctionId),
+                    previousBidder
+            };
+            connection.scriptingCommands().eval(RESTORE_SCRIPT_BYTES, ReturnType.INTEGER, keys.size(),
+                    keysAndArgs(keys, args));
+        }));
+    }
+
+    // 마감시각 인덱스만 다시 등록 (파이프라인 1회)
+    public void reindexAll(Map<Long, LocalDateTime> endTimes) {
+        if (endTimes.isEmpty()) {
+            return;
+        }
+        byte[] indexKey = bytes(END_TIME_INDEX_KEY);
+        redisService.executePipelined(connection -> endTimes.forEach((auctionId, endTime) ->
+                connection.zSetCommands().zAdd(indexKey, epochMillis(endTime), bytes(String.valueOf(auctionId)))));
+    }
+
+    // 미리 적재된 상태만 삭제 (시작 전 취소), 진행중 상태는 유지
+    public void discardStaged(Long auctionId) {
+        AuctionLiveState state = get(auctionId);
+        if (state != null && "SCHEDULED".equals(state.status())) {
+            redisService.deleteValue(key(auctionId));
+        }
+    }
+
+    // 상태가 없으면 null
+    public AuctionLiveState get(Long auctionId) {
+        return toState(redisService.getHashValues(key(auctionId), FIELDS));
+    }
+
+    // 여러 경매 상태를 파이프라인 1회로 조회 (상태가 없는 경매는 결과에서 제외)
+    public Map<Long, AuctionLiveState> getAll(List<Long> auctionIds) {
+        List<String> keys = auctionIds.stream().map(AuctionLiveStateStore::key).toList();
+        List<List<String>> values = redisService.getHashValuesPipelined(keys, FIELDS);
+
+        Map<Long, AuctionLiveState> states = new HashMap<>();
+        for (int i = 0; i < auctionIds.size(); i++) {
+            AuctionLiveState state = toState(values.get(i));
+            if (state != null) {
+                states.put(auctionIds.get(i), state);
+            }
+        }
+        return states;
+    }
+
+    public void delete(Long auctionId) {
+        redisService.deleteValue(key(auctionId));
+        redisService.removeFromSortedSet(END_TIME_INDEX_KEY, String.valueOf(auctionId));
+    }
+
+    // 마감시각이 지난 경매 ID (범위 조회 1회, 마감시각 오름차순)
+    public List<Long> findDueAuctionIds(LocalDateTime now) {
+        return redisService.getSortedSetRangeByScore(END_TIME_INDEX_KEY, 0, epochMillis(now)).stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    // 인덱스에 있는 모든 진행중 경매의 마감시각
+    public Map<Long, LocalDateTime> getEndTimes() {
+        Map<Long, LocalDateTime> endTimes = new LinkedHashMap<>();
+        redisService.getSortedSetWithScores(END_TIME_INDEX_KEY).forEach((member, score) ->
+                endTimes.put(Long.valueOf(member), LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(score.longValue()), ZoneId.systemDefault())));
+        return endTimes;
+    }
+
+    // 마감시각 인덱스 점수
+    public long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 마감시각 + 유예시간 (epoch millis) → 입찰 스크립트의 연장 시 PEXPIREAT 인자
+    public long expireAtMillis(LocalDateTime endTime) {
+        return expireAt(endTime).toInstant().toEpochMilli();
+    }
+
+    private ZonedDateTime expireAt(LocalDateTime endTime) {
+        return endTime.plusSeconds(ttlGraceSeconds).atZone(ZoneId.systemDefault());
+    }
+
+    private String[] stageArgs(AuctionLifecycleView auction) {
+        return new String[]{
+                DateTimeUtils.toRedisString(auction.endTime()),
+                String.valueOf(auction.startPrice()),
+                String.valueOf(expireAtMillis(auction.endTime()))
+        };
+    }
+
+    private String[] activateArgs(AuctionLifecycleView auction) {
+        return new String[]{
+                DateTimeUtils.toRedisString(auction.endTime()),
+                String.valueOf(auction.startPrice()),
+                String.valueOf(expireAtMillis(auction.endTime())),
+                String.valueOf(epochMillis(auction.endTime())),
+                String.valueOf(auction.id())
+        };
+    }
+
+    // 파이프라인 EVAL 인자 (키 다음에 인자)
+    private static byte[][] keysAndArgs(List<String> keys, String[] args) {
+        byte[][] raw = new byte[keys.size() + args.length][];
+        for (int i = 0; i < keys.size(); i++) {
+            raw[i] = bytes(keys.get(i));
+        }
+        for (int i = 0; i < args.length; i++) {
+            raw[keys.size() + i] = bytes(args[i]);
+        }
+        return raw;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private AuctionLiveState toState(List<String> values) {
+        if (values == null || values.stream().allMatch(Objects::isNull)) {
+            return null;
+        }
+        return new AuctionLiveState(values.get(0), values.get(1), values.get(2), values.get(3));
+    }
+}
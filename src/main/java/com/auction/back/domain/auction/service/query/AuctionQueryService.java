@@ -2,11 +2,19 @@ package com.auction.back.domain.auction.service.query;
 
 import com.auction.back.domain.auction.dto.request.AuctionSearchDto;
 import com.auction.back.domain.auction.entity.Auction;
+import com.auction.back.domain.auction.repository.AuctionListView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Map;
 
 public interface AuctionQueryService {
-    public Page<Auction> searchAuctions(AuctionSearchDto searchDto, Pageable pageable);
+    public Page<AuctionListView> searchAuctions(AuctionSearchDto searchDto, Pageable pageable);
+    // 커서 페이징 (cursor = 마지막으로 본 경매 id, 없으면 처음부터)
+    Slice<AuctionListView> searchAuctions(AuctionSearchDto searchDto, Long cursor, int size);
+    // 검색 조건(facet)별 값 건수 (facet 이름 → (값 → 건수)), 색인 적재 전이거나 키워드를 색인으로 처리할 수 없으면 null
+    Map<String, Map<String, Integer>> countFacets(AuctionSearchDto searchDto);
     // 단건 조회
     Auction findAuctionById(Long auctionId);
 }
@@ -2,21 +2,139 @@ package com.auction.back.domain.auction.service.query;
 
 import com.auction.back.domain.auction.dto.request.AuctionSearchDto;
 import com.auction.back.domain.auction.entity.Auction;
+import com.auction.back.domain.auction.repository.AuctionListView;
 import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.auction.service.search.AuctionFacet;
+import com.auction.back.domain.auction.service.search.AuctionFacetIndex;
+import com.auction.back.domain.auction.service.search.AuctionKeywordIndex;
+import com.auction.back.domain.auction.service.search.AuctionKeywordIndex.KeywordPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
+import java.util.*;
+
 @Service
 @RequiredArgsConstructor
 public class AuctionQueryServiceImpl implements AuctionQueryService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final AuctionRepository auctionRepository;
+    private final AuctionKeywordIndex keywordIndex;
+    private final AuctionFacetIndex facetIndex;
 
     @Override
-    public Page<Auction> searchAuctions(AuctionSearchDto searchDto, Pageable pageable) {
-        return auctionRepository.searchAuctions(searchDto, pageable);
+    public Page<AuctionListView> searchAuctions(AuctionSearchDto searchDto, Pageable pageable) {
+        if (hasKeyword(searchDto)) {
+            // 조건(상태 포함)을 교집합 단계에서 함께 적용한 점수 순 페이지 id 만 조회 (전체 건수 = 색인 일치 건수, count 쿼리 없음)
+            // 조건이 있는데 조건 색인을 쓸 수 없으면 DB LIKE 검색
+            Map<AuctionFacet, String> filters = facetFilters(searchDto);
+            BitSet restrict = filters.isEmpty() ? null : facetIndex.filter(filters);
+            KeywordPage page = filters.isEmpty() || restrict != null
+                    ? keywordIndex.search(searchDto.getKeyword(), restrict, pageable.getOffset(), pageable.getPageSize())
+                    : null;
+            if (page == null) {
+                return auctionRepository.searchAuctions(searchDto, pageable);
+            }
+            return new PageImpl<>(findInOrder(page.ids(), searchDto), pageable, page.total());
+        }
+        BitSet facetMatches = filterFacets(searchDto);
+        if (facetMatches == null) {
+            return auctionRepository.searchAuctions(searchDto, pageable);
+        }
+        // 조건 비트맵에서 id 역순으로 페이지 id 만 골라 조회 (전체 건수 = 비트 수, count 쿼리 없음)
+        List<Long> pageIds = AuctionFacetIndex.ids(facetMatches, null, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findInOrder(pageIds, null), pageable, facetMatches.cardinality());
+    }
+    @Override
+    public Slice<AuctionListView> searchAuctions(AuctionSearchDto searchDto, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부는 한 건 더 골라서 판단
+        List<Long> ids = null;
+        if (hasKeyword(searchDto)) {
+            Map<AuctionFacet, String> filters = facetFilters(searchDto);
+            BitSet restrict = filters.isEmpty() ? null : facetIndex.filter(filters);
+            if (filters.isEmpty() || restrict != null) {
+                ids = keywordIndex.searchBefore(searchDto.getKeyword(), restrict, cursor, pageSize + 1);
+            }
+        } else {
+            BitSet facetMatches = filterFacets(searchDto);
+            if (facetMatches != null) {
+                ids = AuctionFacetIndex.ids(facetMatches, cursor, 0, pageSize + 1);
+            }
+        }
+        if (ids == null) {
+            return auctionRepository.searchAuctions(searchDto, cursor, pageSize);
+        }
+        boolean hasNext = ids.size() > pageSize;
+        List<AuctionListView> content = findInOrder(hasNext ? ids.subList(0, pageSize) : ids, searchDto);
+        return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+    }
+    @Override
+    public Map<String, Map<String, Integer>> countFacets(AuctionSearchDto searchDto) {
+        BitSet restrict = null;
+        if (hasKeyword(searchDto)) {
+            restrict = keywordIndex.matchAll(searchDto.getKeyword());
+            if (restrict == null) {
+                return null; // LIKE 검색 결과는 메모리에서 셀 수 없음
+            }
+        }
+        return facetIndex.count(facetFilters(searchDto), restrict);
+    }
+
+    // 품종/성별/크기/지역 조건이 있을 때만 조건 비트맵 사용 (상태만 있거나 조건 없는 목록은 DB 인덱스 페이징)
+    // 색인 적재 전이면 null → DB 조건 검색
+    private BitSet filterFacets(AuctionSearchDto searchDto) {
+        Map<AuctionFacet, String> filters = facetFilters(searchDto);
+        if (filters.isEmpty() || filters.keySet().equals(Set.of(AuctionFacet.STATUS))) {
+            return null;
+        }
+        return facetIndex.filter(filters);
+    }
+
+    private static Map<AuctionFacet, String> facetFilters(AuctionSearchDto searchDto) {
+        Map<AuctionFacet, String> filters = new EnumMap<>(AuctionFacet.class);
+        if (searchDto.getStatus() != null) {
+            filters.put(AuctionFacet.STATUS, searchDto.getStatus().name());
+        }
+        putIfPresent(filters, AuctionFacet.SPECIES, searchDto.getSpecies());
+        if (searchDto.getGender() != null) {
+            filters.put(AuctionFacet.GENDER, searchDto.getGender().name());
+        }
+        putIfPresent(filters, AuctionFacet.SIZE, searchDto.getSize());
+        putIfPresent(filters, AuctionFacet.SELLER_LOCATION, searchDto.getSellerLocation());
+        return filters;
+    }
+
+    private static void putIfPresent(Map<AuctionFacet, String> filters, AuctionFacet facet, String value) {
+        if (value != null && !value.isBlank()) {
+            filters.put(facet, value);
+        }
+    }
+
+    private static boolean hasKeyword(AuctionSearchDto searchDto) {
+        return searchDto.getKeyword() != null && !searchDto.getKeyword().isBlank();
+    }
+
+    // id 목록 순서대로 목록 컬럼 조회 (조건에 맞지 않거나 없는 경매는 제외)
+    private List<AuctionListView> findInOrder(List<Long> ids, AuctionSearchDto condition) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, AuctionListView> rows = new HashMap<>();
+        for (AuctionListView row : auctionRepository.findListViews(ids, condition)) {
+            rows.put(row.id(), row);
+        }
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
     @Override
     public Auction findAuctionById(Long auctionId) {
@@ -0,0 +1,27 @@
+package com.auction.back.domain.auction.service.scheduled;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 미리 적재/시작/마감 예정 시각 (AuctionScheduler 의 대기열 항목)
+ */
+public record AuctionDeadline(Long auctionId, Kind kind, LocalDateTime dueTime) {
+
+    public enum Kind {
+        PREWARM,
+        START,
+        END
+    }
+
+    public static AuctionDeadline prewarm(Long auctionId, LocalDateTime dueTime) {
+        return new AuctionDeadline(auctionId, Kind.PREWARM, dueTime);
+    }
+
+    public static AuctionDeadline start(Long auctionId, LocalDateTime dueTime) {
+        return new AuctionDeadline(auctionId, Kind.START, dueTime);
+    }
+
+    public static AuctionDeadline end(Long auctionId, LocalDateTime dueTime) {
+        return new AuctionDeadline(auctionId, Kind.END, dueTime);
+    }
+}
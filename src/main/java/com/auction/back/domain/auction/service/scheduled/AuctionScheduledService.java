@@ -1,18 +1,32 @@
 package com.auction.back.domain.auction.service.scheduled;
 
-import com.auction.back.domain.auction.entity.Auction;
+import com.auction.back.domain.auction.entity.AuctionDeadLetter;
+import com.auction.back.domain.auction.entity.AuctionSettlement;
 import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.enums.SettlementStatus;
+import com.auction.back.domain.auction.repository.AuctionDeadLetterRepository;
+import com.auction.back.domain.auction.repository.AuctionLifecycleView;
 import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.auction.repository.AuctionSettlementRepository;
+import com.auction.back.domain.auction.service.live.AuctionLiveState;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateRecovery;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateStore;
+import com.auction.back.domain.auction.service.search.AuctionFacetIndex;
 import com.auction.back.domain.user.entity.User;
 import com.auction.back.domain.user.service.query.UserQueryService;
-import com.auction.back.global.redis.RedisService;
+import com.auction.back.global.utils.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
@@ -20,112 +34,256 @@ import java.util.List;
 public class AuctionScheduledService {
 
     private final AuctionRepository auctionRepository;
-    private final RedisService redisService;
+    private final AuctionLiveStateStore liveStateStore;
+    private final AuctionLiveStateRecovery liveStateRecovery;
     private final UserQueryService userQueryService;
+    private final AuctionSettlementRepository settlementRepository;
+    private final AuctionDeadLetterRepository deadLetterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuctionFacetIndex facetIndex;
+
+    // 유찰 정산 outbox (낙찰자 없음, 금액 0 → 디스패처는 Redis 정리만), 저장 즉시 처리 대상 (next_attempt_at = created_at)
+    private static final String INSERT_SETTLEMENT_SQL =
+            "INSERT INTO auction_settlement (auction_id, winner_email, seller_email, amount, status, attempts, created_at, next_attempt_at) " +
+            "VALUES (?, NULL, ?, 0, 'PENDING', 0, ?, ?)";
+
+    /**
+     * 스케줄러 시작 시 대기열 적재용
+     * SCHEDULED → 시작시각, ONGOING → Redis 마감시각 인덱스 (인덱스에 없으면 DB 마감시각)
+     */
+    @Transactional(readOnly = true)
+    public List<AuctionDeadline> loadDeadlines() {
+        List<AuctionDeadline> deadlines = new ArrayList<>();
+        for (AuctionLifecycleView auction : auctionRepository.findLifecycleByStatus(AuctionStatus.SCHEDULED)) {
+            deadlines.add(AuctionDeadline.start(auction.id(), auction.startTime()));
+        }
+
+        // 마감시각 인덱스 1회 조회 (다른 노드에서 연장된 마감시각 포함)
+        Map<Long, LocalDateTime> endTimes = liveStateStore.getEndTimes();
+        for (AuctionLifecycleView auction : auctionRepository.findLifecycleByStatus(AuctionStatus.ONGOING)) {
+            LocalDateTime endTime = endTimes.getOrDefault(auction.id(), auction.endTime());
+            deadlines.add(AuctionDeadline.end(auction.id(), endTime));
+        }
+        return deadlines;
+    }
 
     /**
-     * 진행중(ONGOING) 경매 중 마감시간 지난 것 처리
+     * 마감시각이 지난 진행중 경매 ID (마감시각 인덱스 범위 조회 1회)
+     */
+    public List<Long> findDueAuctionIds() {
+        return liveStateStore.findDueAuctionIds(LocalDateTime.now());
+    }
+
+    /**
+     * 시작시각이 된 SCHEDULED 경매 ONGOING 전환
+     * 반환값 = 다음 처리 시각 (전환 시 마감, 아직 이르면 시작), 처리할 것이 없으면 null
+     * fenceToken = 스케줄러 리더 펜싱 토큰
      */
     @Transactional
-    public void checkAuctionEnd() {
-        log.info("checkAuctionEnd 동작");
-        List<Auction> ongoingAuctions = auctionRepository.findByStatus(AuctionStatus.ONGOING);
-        LocalDateTime now = LocalDateTime.now();
+    public AuctionDeadline startAuction(Long auctionId, long fenceToken) {
+        AuctionLifecycleView auction = auctionRepository.findLifecycleById(auctionId).orElse(null);
+        if (auction == null || auction.status() != AuctionStatus.SCHEDULED) {
+            return null;
+        }
+        if (LocalDateTime.now().isBefore(auction.startTime())) {
+            return AuctionDeadline.start(auctionId, auction.startTime());
+        }
+
+        if (auctionRepository.transitionStatus(auctionId, AuctionStatus.SCHEDULED, AuctionStatus.ONGOING, fenceToken) == 0) {
+            log.info("경매 시작 생략 (이미 처리됨 또는 이전 리더). auctionId={}, token={}", auctionId, fenceToken);
+            return null;
+        }
 
-        for (Auction auction : ongoingAuctions) {
-            String endTimeStr = redisService.getValue("auction:" + auction.getId() + ":endTime");
-            if (endTimeStr == null) continue;
+        log.info("경매 시작: auctionId={}", auctionId);
+        initRedisForOngoingAuction(auction);
+        TransactionUtils.afterCommit(() -> facetIndex.updateStatus(List.of(auctionId), AuctionStatus.ONGOING));
+        return AuctionDeadline.end(auctionId, auction.endTime());
+    }
 
-            LocalDateTime dynamicEndTime = LocalDateTime.parse(endTimeStr);
-            if (now.isAfter(dynamicEndTime)) {
-                doEndAuction(auction);
+    /**
+     * 마감시각이 된 ONGOING 경매 마감
+     * 입찰로 마감이 연장되었으면 마감하지 않고 연장된 시각 반환
+     */
+    @Transactional
+    public AuctionDeadline endAuction(Long auctionId, long fenceToken) {
+        AuctionLifecycleView auction = auctionRepository.findLifecycleById(auctionId).orElse(null);
+        if (auction == null || auction.status() != AuctionStatus.ONGOING) {
+            return null;
+        }
+        AuctionLiveState state = liveStateStore.get(auctionId);
+        if (state == null || state.endTime() == null) {
+            // Redis 재시작 등으로 상태가 사라짐 → DB/입찰 이력으로 복구 후 계속 진행
+            log.warn("경매 실시간 상태 없음, 복구 후 마감 처리. auctionId={}", auctionId);
+            state = liveStateRecovery.recover(auction);
+            if (state == null || state.endTime() == null) {
+                throw new IllegalStateException("경매 실시간 상태 복구 실패. auctionId=" + auctionId);
             }
         }
+
+        LocalDateTime dynamicEndTime = LocalDateTime.parse(state.endTime());
+        if (!LocalDateTime.now().isAfter(dynamicEndTime)) {
+            return AuctionDeadline.end(auctionId, dynamicEndTime);
+        }
+
+        // 상태 전환에 성공한 노드만 정산 (중복 정산 방지)
+        if (auctionRepository.transitionStatus(auctionId, AuctionStatus.ONGOING, AuctionStatus.ENDED, fenceToken) == 0) {
+            log.info("경매 마감 생략 (이미 처리됨 또는 이전 리더). auctionId={}, token={}", auctionId, fenceToken);
+            return null;
+        }
+        doEndAuction(auction, state);
+        TransactionUtils.afterCommit(() -> facetIndex.updateStatus(List.of(auctionId), AuctionStatus.ENDED));
+        return null;
+    }
+
+    /**
+     * 시작 전 실시간 상태 미리 적재 (파이프라인 1회), DB 상태는 바꾸지 않으므로 펜싱 토큰 불필요
+     * 아직 SCHEDULED 인 경매만 적재, 이미 적재/활성화된 상태는 덮어쓰지 않음
+     */
+    @Transactional(readOnly = true)
+    public void prewarm(List<Long> auctionIds) {
+        List<AuctionLifecycleView> scheduled =
+                auctionRepository.findLifecycleByIdsAndStatus(auctionIds, AuctionStatus.SCHEDULED);
+        liveStateStore.stageAll(scheduled);
+        log.info("경매 실시간 상태 미리 적재. count={}", scheduled.size());
     }
 
+    // 시작 전 취소된 경매의 미리 적재된 상태 삭제
+    public void discardStaged(Long auctionId) {
+        liveStateStore.discardStaged(auctionId);
+    }
 
     /**
-     * SCHEDULED 경매 중 시작시간이 지난 것 ONGOING 전환
+     * 파티션 내 시작시각이 된 SCHEDULED 경매 일괄 시작
+     * 조회(행 잠금) 1회 + UPDATE 1회 + Redis 파이프라인 1회
+     * 반환값 = 시작된 경매의 마감 처리 시각
      */
     @Transactional
-    public void checkAuctionStart() {
-        log.info("checkAuctionStart 동작");
-        List<Auction> scheduledAuctions = auctionRepository.findByStatus(AuctionStatus.SCHEDULED);
+    public List<AuctionDeadline> startDueAuctions(int partitionCount, int partition, long fenceToken) {
+        List<AuctionLifecycleView> due = auctionRepository.lockDueToStart(
+                AuctionStatus.SCHEDULED, LocalDateTime.now(), partitionCount, partition);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = due.stream().map(AuctionLifecycleView::id).toList();
+        int updated = auctionRepository.transitionStatusAll(ids, AuctionStatus.SCHEDULED, AuctionStatus.ONGOING, fenceToken);
+        if (updated != ids.size()) {
+            // 더 큰 펜싱 토큰으로 전환된 경매가 있음 → 이전 소유자이므로 전체 롤백
+            throw new IllegalStateException("일괄 시작 충돌. partition=" + partition + ", token=" + fenceToken);
+        }
+
+        liveStateStore.activateAll(due);
+        TransactionUtils.afterCommit(() -> facetIndex.updateStatus(ids, AuctionStatus.ONGOING));
+        log.info("경매 일괄 시작. partition={}, count={}", partition, ids.size());
+        return due.stream().map(a -> AuctionDeadline.end(a.id(), a.endTime())).toList();
+    }
+
+    /**
+     * 마감시각이 지났고 입찰이 없는 경매 일괄 유찰 처리
+     * 실시간 상태 파이프라인 조회 1회 + 조회(행 잠금) 1회 + UPDATE 1회 + 정산 outbox 배치 INSERT 1회
+     * 반환값 = 개별 처리할 경매 (입찰 있음, 아직 마감 전, 실시간 상태 없음 등)
+     */
+    @Transactional
+    public List<Long> closeNoBidAuctions(List<Long> auctionIds, long fenceToken) {
+        Map<Long, AuctionLiveState> states = liveStateStore.getAll(auctionIds);
         LocalDateTime now = LocalDateTime.now();
 
-        for (Auction auction : scheduledAuctions) {
-            if (!now.isBefore(auction.getStartTime())) {
-                auction.updateStatus(AuctionStatus.ONGOING);
-                auctionRepository.save(auction);
+        List<Long> noBid = new ArrayList<>();
+        List<Long> remaining = new ArrayList<>();
+        for (Long auctionId : auctionIds) {
+            AuctionLiveState state = states.get(auctionId);
+            boolean closable = state != null && state.endTime() != null && !state.hasBidder()
+                    && now.isAfter(LocalDateTime.parse(state.endTime()));
+            (closable ? noBid : remaining).add(auctionId);
+        }
+        if (noBid.isEmpty()) {
+            return remaining;
+        }
+
+        List<Long> locked = auctionRepository.lockIdsByStatus(noBid, AuctionStatus.ONGOING);
+        if (locked.isEmpty()) {
+            return remaining;
+        }
+        int updated = auctionRepository.closeWithoutWinner(locked, AuctionStatus.ONGOING, AuctionStatus.ENDED, fenceToken);
+        if (updated != locked.size()) {
+            throw new IllegalStateException("일괄 유찰 충돌. token=" + fenceToken);
+        }
 
-                log.info("경매 시작: auctionId={}", auction.getId());
-                initRedisForOngoingAuction(auction);
-            }
+        Map<Long, String> sellerEmails = new HashMap<>();
+        for (Object[] row : auctionRepository.findSellerEmails(locked)) {
+            sellerEmails.put((Long) row[0], (String) row[1]);
         }
+        Timestamp createdAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_SETTLEMENT_SQL, locked, locked.size(), (ps, auctionId) -> {
+            ps.setLong(1, auctionId);
+            ps.setString(2, sellerEmails.get(auctionId));
+            ps.setTimestamp(3, createdAt);
+            ps.setTimestamp(4, createdAt);
+        });
+        TransactionUtils.afterCommit(() -> facetIndex.updateStatus(locked, AuctionStatus.ENDED));
+        log.info("경매 일괄 유찰. count={}", locked.size());
+        return remaining;
     }
 
-    private void doEndAuction(Auction auction) {
-        long auctionId = auction.getId();
+    /**
+     * 재시도 한도를 넘긴 시작/마감 처리 기록
+     */
+    @Transactional
+    public void recordDeadLetter(AuctionDeadline deadline, int attempts, Throwable error) {
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        deadLetterRepository.save(AuctionDeadLetter.builder()
+                .auctionId(deadline.auctionId())
+                .kind(deadline.kind().name())
+                .attempts(attempts)
+                .lastError(message.length() > 1000 ? message.substring(0, 1000) : message)
+                .failedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 낙찰 결과 기록 + 정산 outbox 저장 (ENDED 전환과 같은 트랜잭션)
+     * 경매 엔티티를 읽지 않고 UPDATE 1회로 기록, 포인트 이동과 Redis 정리는 SettlementOutboxDispatcher 가 처리
+     */
+    private void doEndAuction(AuctionLifecycleView auction, AuctionLiveState state) {
+        long auctionId = auction.id();
         log.info("경매 마감 처리 시도. auctionId={}", auctionId);
 
-        String prefix = "auction:" + auctionId + ":";
-        String highestPriceStr = redisService.getValue(prefix + "highestPrice");
-        String highestBidderEmail = redisService.getValue(prefix + "highestBidder");
-        String finalEndTimeStr = redisService.getValue(prefix + "endTime");
+        String highestPriceStr = state.highestPrice();
+        String highestBidderEmail = state.highestBidder();
+        String finalEndTimeStr = state.endTime();
 
-        double highestPrice = (highestPriceStr == null) ? 0.0 : Double.parseDouble(highestPriceStr);
+        long highestPrice = (highestPriceStr == null) ? 0L : Long.parseLong(highestPriceStr);
 
-        // 경매 상태 = ENDED
-        auction.updateStatus(AuctionStatus.ENDED);
+        // 경매 상태(ENDED)는 호출 전 transitionStatus 에서 전환됨
 
-        if (highestBidderEmail != null && !highestBidderEmail.isEmpty()) {
+        boolean hasWinner = highestBidderEmail != null && !highestBidderEmail.isEmpty();
+        if (hasWinner) {
             User winner = userQueryService.findByEmail(highestBidderEmail);
-
-            if (winner.getPointBalance() < highestPrice) {
-                log.warn("낙찰자 포인트 부족. auctionId={}, bidder={}", auctionId, highestBidderEmail);
-                // 낙찰 무효 로직 ...
-            } else {
-                winner.usePoint(highestPrice);
-            }
-
-            User seller = auction.getSeller(); // Lazy 필드여도, @Transactional 환경이므로 세션 O
-            if (seller != null) {
-                seller.chargePoint(highestPrice);
-            }
-
-            auction.setWinner(winner, highestPrice);
+            LocalDateTime finalEndTime = finalEndTimeStr != null ? LocalDateTime.parse(finalEndTimeStr) : auction.endTime();
+            auctionRepository.recordResult(auctionId, winner, highestPrice, finalEndTime);
             log.info("낙찰 완료. winner={}, price={}", winner.getEmail(), highestPrice);
-            if (finalEndTimeStr != null) {
-                auction.setFinalEndTime(LocalDateTime.parse(finalEndTimeStr));
-            }
         } else {
             // 유찰
-            auction.setWinner(null, 0.0);
+            auctionRepository.recordResult(auctionId, null, 0L, auction.endTime());
         }
 
-        auctionRepository.save(auction);
-        cleanUpRedisKeys(auctionId);
-        log.info("경매 마감 완료. auctionId={}", auctionId);
-    }
-
-    private void initRedisForOngoingAuction(Auction auction) {
-        long auctionId = auction.getId();
-        String prefix = "auction:" + auctionId + ":";
-
-        redisService.setValue(prefix + "highestPrice", String.valueOf(auction.getStartPrice()), 3600L);
-
-        LocalDateTime endTime = auction.getEndTime();
-        redisService.setValue(prefix + "endTime", endTime.toString(), 3600L);
+        LocalDateTime now = LocalDateTime.now();
+        settlementRepository.save(AuctionSettlement.builder()
+                .auctionId(auctionId)
+                .winnerEmail(hasWinner ? highestBidderEmail : null)
+                .sellerEmail(auctionRepository.findSellerEmail(auctionId).orElse(null))
+                .amount(hasWinner ? highestPrice : 0L)
+                .status(SettlementStatus.PENDING)
+                .attempts(0)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build());
 
-        redisService.setValue(prefix + "highestBidder", "", 3600L);
-        redisService.setValue(prefix + "status", "ONGOING", 3600L);
+        log.info("경매 마감 완료, 정산 대기. auctionId={}", auctionId);
     }
 
-    private void cleanUpRedisKeys(Long auctionId) {
-        String prefix = "auction:" + auctionId + ":";
-        redisService.deleteValue(prefix + "highestPrice");
-        redisService.deleteValue(prefix + "highestBidder");
-        redisService.deleteValue(prefix + "endTime");
-        redisService.deleteValue(prefix + "status");
+    private void initRedisForOngoingAuction(AuctionLifecycleView auction) {
+        // 최고가 = 시작가, 마감시간 = DB endTime, TTL = 마감시간 + 유예 (미리 적재된 값은 시작 시점 DB 값으로 덮어씀)
+        String result = liveStateStore.activate(auction);
+        log.debug("경매 실시간 상태 활성화. auctionId={}, result={}", auction.id(), result);
     }
 }
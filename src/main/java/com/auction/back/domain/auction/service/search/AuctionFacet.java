@@ -0,0 +1,22 @@
+package com.auction.back.domain.auction.service.search;
+
+/**
+ * 목록 검색 조건 (facet), key = 요청 파라미터 / 응답 건수 맵의 이름
+ */
+public enum AuctionFacet {
+    STATUS("status"),
+    SPECIES("species"),
+    GENDER("gender"),
+    SIZE("size"),
+    SELLER_LOCATION("sellerLocation");
+
+    private final String key;
+
+    AuctionFacet(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,314 @@
+package com.auction.back.domain.auction.service.search;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionFacetView;
+import com.auction.back.domain.auction.repository.AuctionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 경매 검색 조건(facet) 비트맵 색인 (노드 메모리, 상태/품종/성별/크기/판매자 지역)
+ * - 조건 값마다 경매 id 비트맵 1개, 여러 조건은 AND, 조건별 건수는 "다른 조건만 적용한" 결과와 AND 후 cardinality
+ * - 경매 id 는 자동 증가(조밀)이므로 id 를 그대로 비트 위치로 사용 (값 하나당 최대 id / 8 바이트)
+ * - 기동 시 DB 에서 id 순으로 나눠 적재, 이후 등록/수정/취소/시작/마감 시 커밋 후 해당 경매만 갱신
+ * - 다른 노드의 등록/수정/취소/상태 전환은 facet-refresh-ms 마다 updated_at 기준 변경분만 다시 읽어 반영
+ *   (커밋 지연/시계 차이를 고려해 직전 동기화 시각보다 refresh-overlap-ms 앞에서부터 조회, 중복 반영은 결과 동일)
+ * - 적재 전이거나 마지막 동기화가 max-staleness-ms 보다 오래되면 null 반환 → 호출 측에서 DB 조건 검색
+ */
+@Slf4j
+@Component
+public class AuctionFacetIndex {
+
+    private final AuctionRepository auctionRepository;
+    private final boolean enabled;
+    private final int loadBatchSize;
+    private final long refreshOverlapMillis;
+    private final long maxStalenessMillis;
+
+    // 조건 → (값 → 경매 id 비트맵)
+    private final Map<AuctionFacet, Map<String, BitSet>> bitmaps = new EnumMap<>(AuctionFacet.class);
+    // 색인된 전체 경매
+    private final BitSet indexed = new BitSet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+    // 마지막으로 DB 변경분을 반영한 동기화의 시작 시각
+    private volatile long syncedAtMillis;
+
+    public AuctionFacetIndex(AuctionRepository auctionRepository,
+                             @Value("${auction.search.facet-index-enabled:true}") boolean enabled,
+                             @Value("${auction.search.load-batch-size:10000}") int loadBatchSize,
+                             @Value("${auction.search.refresh-overlap-ms:10000}") long refreshOverlapMillis,
+                             @Value("${auction.search.max-staleness-ms:10000}") long maxStalenessMillis) {
+        this.auctionRepository = auctionRepository;
+        this.enabled = enabled;
+        this.loadBatchSize = loadBatchSize;
+        this.refreshOverlapMillis = refreshOverlapMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+        for (AuctionFacet facet : AuctionFacet.values()) {
+            bitmaps.put(facet, new HashMap<>());
+        }
+    }
+
+    // 적재 중에도 기동/요청 처리는 계속 (적재 전 검색은 DB 조건)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread loader = new Thread(this::load, "auction-facet-index");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // 테스트에서 직접 호출
+    void load() {
+        long startNanos = System.nanoTime();
+        long startedAt = System.currentTimeMillis();
+        try {
+            long afterId = 0L;
+            int count = 0;
+            while (true) {
+                List<AuctionFacetView> batch = auctionRepository.findFacetsAfter(afterId, PageRequest.of(0, loadBatchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(this::index);
+                afterId = batch.get(batch.size() - 1).id();
+                count += batch.size();
+            }
+            syncedAtMillis = startedAt;
+            ready = true;
+            log.info("경매 facet 색인 적재 완료. auctions={}, elapsed={}ms",
+                    count, (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("경매 facet 색인 적재 실패, DB 검색 사용", e);
+        }
+    }
+
+    /**
+     * 경매 등록/수정 시 (기존 값은 교체)
+     */
+    public void index(AuctionFacetView auction) {
+        int bit = bit(auction.id());
+        if (bit < 0) {
+            return;
+        }
+        Map<AuctionFacet, String> values = values(auction);
+        lock.writeLock().lock();
+        try {
+            values.forEach((facet, value) -> setLocked(facet, value, bit));
+            indexed.set(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 경매 상태 전환 시 (시작/마감/취소, 색인되지 않은 경매는 무시)
+     */
+    public void updateStatus(Collection<Long> auctionIds, AuctionStatus status) {
+        lock.writeLock().lock();
+        try {
+            for (Long auctionId : auctionIds) {
+                int bit = bit(auctionId);
+                if (bit >= 0 && indexed.get(bit)) {
+                    setLocked(AuctionFacet.STATUS, status.name(), bit);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다른 노드에서 등록/수정/취소/전환된 경매 반영 (직전 동기화 이후 변경분만, 새 경매 포함)
+     */
+    @Scheduled(fixedDelayString = "${auction.search.facet-refresh-ms:2000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(syncedAtMillis - refreshOverlapMillis), ZoneId.systemDefault());
+        try {
+            List<AuctionFacetView> changed = auctionRepository.findFacetsChangedSince(since);
+            changed.forEach(this::index);
+            syncedAtMillis = startedAt;
+            if (!changed.isEmpty()) {
+                log.debug("경매 facet 색인 동기화. changed={}", changed.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("경매 facet 색인 동기화 실패. reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 조건에 모두 맞는 경매 비트맵 (복사본)
+     * @return 적재 전 / 동기화 지연이면 null
+     */
+    public BitSet filter(Map<AuctionFacet, String> filters) {
+        if (!isUsable()) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            return matchLocked(filters, null, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건별 값 건수 (facet 이름 → (값 → 건수), 건수 내림차순, 0건 제외)
+     * 각 조건의 건수는 그 조건을 뺀 나머지 조건만 적용 → 선택을 바꿨을 때의 결과 수
+     * @param restrict 추가로 교집합할 경매 (키워드 검색 결과 등), 없으면 null
+     * @return 적재 전 / 동기화 지연이면 null
+     */
+    public Map<String, Map<String, Integer>> count(Map<AuctionFacet, String> filters, BitSet restrict) {
+        if (!isUsable()) {
+            return null;
+        }
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        BitSet scratch = new BitSet();
+        lock.readLock().lock();
+        try {
+            for (AuctionFacet facet : AuctionFacet.values()) {
+                BitSet base = matchLocked(filters, facet, restrict);
+                List<Map.Entry<String, Integer>> values = new ArrayList<>();
+                for (Map.Entry<String, BitSet> entry : bitmaps.get(facet).entrySet()) {
+                    scratch.clear();
+                    scratch.or(entry.getValue());
+                    scratch.and(base);
+                    int cardinality = scratch.cardinality();
+                    if (cardinality > 0) {
+                        values.add(Map.entry(entry.getKey(), cardinality));
+                    }
+                }
+                values.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()));
+                Map<String, Integer> facetCounts = new LinkedHashMap<>();
+                values.forEach(entry -> facetCounts.put(entry.getKey(), entry.getValue()));
+                counts.put(facet.getKey(), facetCounts);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    /**
+     * 비트맵 → 경매 id (id 역순 = 최신순)
+     * @param cursor 이 id 미만부터 (없으면 처음부터)
+     * @param skip   건너뛸 건수 (offset 페이징)
+     */
+    public static List<Long> ids(BitSet matches, Long cursor, long skip, int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, 1024));
+        int from = cursor == null ? matches.length() - 1 : (int) Math.min(cursor - 1, Integer.MAX_VALUE - 1);
+        for (int bit = matches.previousSetBit(from); bit >= 0 && ids.size() < limit; bit = matches.previousSetBit(bit - 1)) {
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            ids.add((long) bit);
+        }
+        return ids;
+    }
+
+    public static BitSet toBits(Collection<Long> auctionIds) {
+        BitSet bits = new BitSet();
+        for (Long auctionId : auctionIds) {
+            int bit = bit(auctionId);
+            if (bit >= 0) {
+                bits.set(bit);
+            }
+        }
+        return bits;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 적재를 마쳤고 다른 노드 변경분이 max-staleness-ms 이내로 반영된 상태
+    private boolean isUsable() {
+        return ready && System.currentTimeMillis() - syncedAtMillis <= maxStalenessMillis;
+    }
+
+    // excluded 조건을 뺀 나머지 조건 + restrict 교집합 (조건 값이 없는 facet 은 전체)
+    private BitSet matchLocked(Map<AuctionFacet, String> filters, AuctionFacet excluded, BitSet restrict) {
+        BitSet result = (BitSet) indexed.clone();
+        if (restrict != null) {
+            result.and(restrict);
+        }
+        for (Map.Entry<AuctionFacet, String> filter : filters.entrySet()) {
+            String value = normalize(filter.getValue());
+            if (filter.getKey() == excluded || value == null) {
+                continue;
+            }
+            BitSet bits = bitmaps.get(filter.getKey()).get(value);
+            if (bits == null) {
+                return new BitSet();
+            }
+            result.and(bits);
+        }
+        return result;
+    }
+
+    // 같은 조건의 다른 값에서 빼고 새 값에 추가 (값 수만큼 비트 해제, 빈 비트맵은 제거)
+    private void setLocked(AuctionFacet facet, String value, int bit) {
+        Map<String, BitSet> values = bitmaps.get(facet);
+        Iterator<Map.Entry<String, BitSet>> iterator = values.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, BitSet> entry = iterator.next();
+            if (entry.getKey().equals(value)) {
+                continue;
+            }
+            BitSet bits = entry.getValue();
+            bits.clear(bit);
+            if (bits.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        if (value != null) {
+            values.computeIfAbsent(value, v -> new BitSet()).set(bit);
+        }
+    }
+
+    private static Map<AuctionFacet, String> values(AuctionFacetView auction) {
+        Map<AuctionFacet, String> values = new EnumMap<>(AuctionFacet.class);
+        values.put(AuctionFacet.STATUS, auction.status() != null ? auction.status().name() : null);
+        values.put(AuctionFacet.SPECIES, normalize(auction.species()));
+        values.put(AuctionFacet.GENDER, auction.gender() != null ? auction.gender().name() : null);
+        values.put(AuctionFacet.SIZE, normalize(auction.size()));
+        values.put(AuctionFacet.SELLER_LOCATION, normalize(auction.sellerLocation()));
+        return values;
+    }
+
+    // 앞뒤 공백 제거, 빈 값은 조건 없음
+    static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    // 비트 위치로 쓸 수 없는 id 는 -1 (색인 제외)
+    private static int bit(Long auctionId) {
+        if (auctionId == null || auctionId < 0 || auctionId >= Integer.MAX_VALUE) {
+            return -1;
+        }
+        return auctionId.intValue();
+    }
+}
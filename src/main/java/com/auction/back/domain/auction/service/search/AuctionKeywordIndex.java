@@ -0,0 +1,443 @@
+package com.auction.back.domain.auction.service.search;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.auction.repository.AuctionTextView;
+import com.auction.back.global.utils.KeywordUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 경매 키워드 역색인 (노드 메모리, 제목/설명/품종)
+ * - 한글 형태소 분석 없이 2-gram 으로 분해 (한 글자 단어는 그대로), 검색어의 모든 gram 을 포함하는 경매만 결과
+ * - 점수 = 일치한 gram 마다 필드 가중치 합 (제목 3, 품종 2, 설명 1), 동점이면 최신(id 큰) 경매 우선
+ * - gram 별 목록 = id 오름차순 long 배열 + 필드 비트 byte 배열 (박싱 없음), 교집합은 가장 짧은 목록 기준 이진 탐색
+ * - 상태/품종 등 조건은 호출 측 비트맵으로 교집합 단계에서 함께 걸러냄 → 전체 건수가 정확하고 결과를 자르지 않음
+ * - 설명은 앞부분 description-max-chars 글자만 색인 (메모리 제한, DB LIKE 검색도 같은 범위만 비교)
+ * - 기동 시 DB 에서 id 순으로 나눠 적재, 이후 등록/수정/취소 시 커밋 후 해당 경매만 갱신
+ * - 다른 노드의 등록/수정/취소는 refresh-ms 마다 updated_at 기준 변경분만 다시 읽어 반영
+ *   (커밋 지연/시계 차이를 고려해 직전 동기화 시각보다 refresh-overlap-ms 앞에서부터 조회, 중복 반영은 결과 동일)
+ * - 적재 전, 마지막 동기화가 max-staleness-ms 보다 오래됨, 색인으로 처리할 수 없는 검색어(한 글자)
+ *   → null 반환 → 호출 측에서 DB LIKE 검색
+ */
+@Slf4j
+@Component
+public class AuctionKeywordIndex {
+
+    private static final byte TITLE = 1;
+    private static final byte SPECIES = 2;
+    private static final byte DESCRIPTION = 4;
+    private static final int ID_BITS = 40;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+
+    private final AuctionRepository auctionRepository;
+    private final boolean enabled;
+    private final int loadBatchSize;
+    private final int descriptionMaxChars;
+    private final long refreshOverlapMillis;
+    private final long maxStalenessMillis;
+
+    // gram → 번호, 번호 → gram 목록
+    private final Map<String, Integer> gramIds = new HashMap<>();
+    private final List<Postings> postings = new ArrayList<>();
+    // 경매 id → 색인된 gram 번호 (수정/삭제 시 기존 항목 제거용)
+    private final Map<Long, int[]> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+    // 마지막으로 DB 변경분을 반영한 동기화의 시작 시각
+    private volatile long syncedAtMillis;
+
+    public AuctionKeywordIndex(AuctionRepository auctionRepository,
+                               @Value("${auction.search.index-enabled:true}") boolean enabled,
+                               @Value("${auction.search.load-batch-size:10000}") int loadBatchSize,
+                               @Value("${auction.search.description-max-chars:500}") int descriptionMaxChars,
+                               @Value("${auction.search.refresh-overlap-ms:10000}") long refreshOverlapMillis,
+                               @Value("${auction.search.max-staleness-ms:10000}") long maxStalenessMillis) {
+        this.auctionRepository = auctionRepository;
+        this.enabled = enabled;
+        this.loadBatchSize = loadBatchSize;
+        this.descriptionMaxChars = descriptionMaxChars;
+        this.refreshOverlapMillis = refreshOverlapMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    // 적재 중에도 기동/요청 처리는 계속 (적재 전 검색은 DB LIKE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread loader = new Thread(this::load, "auction-keyword-index");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // 테스트에서 직접 호출
+    void load() {
+        long startNanos = System.nanoTime();
+        long startedAt = System.currentTimeMillis();
+        try {
+            long afterId = 0L;
+            int count = 0;
+            while (true) {
+                List<AuctionTextView> batch = auctionRepository.findTextAfter(
+                        afterId, AuctionStatus.CANCELED, PageRequest.of(0, loadBatchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(this::index);
+                afterId = batch.get(batch.size() - 1).id();
+                count += batch.size();
+            }
+            syncedAtMillis = startedAt;
+            ready = true;
+            log.info("경매 키워드 색인 적재 완료. auctions={}, grams={}, elapsed={}ms",
+                    count, gramCount(), (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("경매 키워드 색인 적재 실패, DB 검색 사용", e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 등록/수정/취소된 경매 반영 (직전 동기화 이후 변경분만)
+     */
+    @Scheduled(fixedDelayString = "${auction.search.index-refresh-ms:2000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(syncedAtMillis - refreshOverlapMillis), ZoneId.systemDefault());
+        try {
+            List<AuctionTextView> changed = auctionRepository.findTextChangedSince(since, AuctionStatus.CANCELED);
+            List<Long> canceled = auctionRepository.findIdsChangedSince(since, AuctionStatus.CANCELED);
+            changed.forEach(this::index);
+            canceled.forEach(this::remove);
+            syncedAtMillis = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("경매 키워드 색인 동기화 실패. reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 경매 등록/수정 시 (기존 색인 항목은 교체)
+     */
+    public void index(AuctionTextView auction) {
+        Map<String, Byte> grams = new HashMap<>();
+        addGrams(grams, auction.title(), TITLE);
+        addGrams(grams, auction.species(), SPECIES);
+        String description = auction.description();
+        if (description != null && description.length() > descriptionMaxChars) {
+            description = description.substring(0, descriptionMaxChars);
+        }
+        addGrams(grams, description, DESCRIPTION);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(auction.id());
+            int[] ids = new int[grams.size()];
+            int i = 0;
+            for (Map.Entry<String, Byte> entry : grams.entrySet()) {
+                int gramId = gramIds.computeIfAbsent(entry.getKey(), g -> {
+                    postings.add(new Postings());
+                    return postings.size() - 1;
+                });
+                postings.get(gramId).put(auction.id(), entry.getValue());
+                ids[i++] = gramId;
+            }
+            documents.put(auction.id(), ids);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 경매 취소 시
+     */
+    public void remove(Long auctionId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(auctionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 결과 한 페이지 (점수 순 id) + 조건까지 적용한 전체 일치 건수
+     */
+    public record KeywordPage(List<Long> ids, int total) {
+    }
+
+    /**
+     * 키워드 검색 → 점수 순 페이지
+     * @param restrict 함께 적용할 조건 비트맵 (경매 id 위치, 조건 없으면 null)
+     * @return 색인으로 처리할 수 없으면 null (적재 전 / 동기화 지연 / 검색어 없음 / 한 글자 검색어)
+     */
+    public KeywordPage search(String keyword, BitSet restrict, long offset, int limit) {
+        Set<String> queryGrams = queryGrams(keyword);
+        if (queryGrams == null) {
+            return null;
+        }
+        // 상위 비트 = 점수, 하위 40비트 = 경매 id → 내림차순 정렬이 곧 (점수, 최신) 순
+        LongBuffer ranked = new LongBuffer();
+        match(queryGrams, restrict, Long.MAX_VALUE, (auctionId, score) -> ranked.add(((long) score << ID_BITS) | auctionId));
+
+        int count = ranked.size;
+        Arrays.sort(ranked.values, 0, count);
+        int from = (int) Math.min(offset, count);
+        int to = Math.min(from + limit, count);
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = count - 1 - from; i >= count - to; i--) {
+            ids.add(ranked.values[i] & ID_MASK);
+        }
+        return new KeywordPage(ids, count);
+    }
+
+    /**
+     * 키워드 검색 → 커서(id) 보다 작은 경매 id 역순 limit 건 (커서 페이징, 점수 무시)
+     * @return 색인으로 처리할 수 없으면 null
+     */
+    public List<Long> searchBefore(String keyword, BitSet restrict, Long cursor, int limit) {
+        Set<String> queryGrams = queryGrams(keyword);
+        if (queryGrams == null) {
+            return null;
+        }
+        // id 오름차순으로 일치하므로 마지막 limit 건이 커서 바로 앞
+        LongBuffer matched = new LongBuffer();
+        match(queryGrams, restrict, cursor != null ? cursor : Long.MAX_VALUE, (auctionId, score) -> matched.add(auctionId));
+
+        List<Long> ids = new ArrayList<>(Math.min(limit, matched.size));
+        for (int i = matched.size - 1; i >= 0 && ids.size() < limit; i--) {
+            ids.add(matched.values[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * 키워드에 일치하는 전체 경매 id 비트맵 (조건별 건수 집계용)
+     * @return 색인으로 처리할 수 없으면 null
+     */
+    public BitSet matchAll(String keyword) {
+        Set<String> queryGrams = queryGrams(keyword);
+        if (queryGrams == null) {
+            return null;
+        }
+        BitSet matched = new BitSet();
+        match(queryGrams, null, Long.MAX_VALUE, (auctionId, score) -> matched.set((int) auctionId));
+        return matched;
+    }
+
+    // 검색어 gram (색인으로 처리할 수 없으면 null)
+    private Set<String> queryGrams(String keyword) {
+        if (!isUsable() || keyword == null) {
+            return null;
+        }
+        Set<String> queryGrams = new HashSet<>();
+        for (String word : KeywordUtils.words(keyword)) {
+            if (word.length() < 2) {
+                return null; // 한 글자 단어는 다른 단어 안의 부분 문자열까지 찾을 수 없음
+            }
+            queryGrams.addAll(grams(word));
+        }
+        return queryGrams.isEmpty() ? null : queryGrams;
+    }
+
+    // 모든 gram 목록 + 조건 비트맵의 교집합 중 belowId 보다 작은 경매를 id 오름차순으로 전달
+    private void match(Set<String> queryGrams, BitSet restrict, long belowId, MatchConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            // 가장 짧은 목록부터 교집합
+            List<Postings> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                Integer gramId = gramIds.get(gram);
+                if (gramId == null || postings.get(gramId).size == 0) {
+                    return;
+                }
+                lists.add(postings.get(gramId));
+            }
+            lists.sort(Comparator.comparingInt(p -> p.size));
+
+            // 목록이 모두 id 오름차순이므로 목록별 위치를 앞으로만 옮기며 지수 탐색
+            Postings shortest = lists.get(0);
+            int[] positions = new int[lists.size()];
+            candidates:
+            for (int c = 0; c < shortest.size; c++) {
+                long auctionId = shortest.ids[c];
+                if (auctionId >= belowId) {
+                    break;
+                }
+                if (restrict != null && !restrict.get((int) auctionId)) {
+                    continue;
+                }
+                int score = weight(shortest.fields[c]);
+                for (int i = 1; i < lists.size(); i++) {
+                    Postings list = lists.get(i);
+                    int position = list.seek(auctionId, positions[i]);
+                    positions[i] = position;
+                    if (position == list.size) {
+                        break candidates; // 이 목록이 끝났으므로 더 이상 교집합 없음
+                    }
+                    if (list.ids[position] != auctionId) {
+                        continue candidates;
+                    }
+                    score += weight(list.fields[position]);
+                }
+                consumer.accept(auctionId, score);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 적재를 마쳤고 다른 노드 변경분이 max-staleness-ms 이내로 반영된 상태
+    private boolean isUsable() {
+        return ready && System.currentTimeMillis() - syncedAtMillis <= maxStalenessMillis;
+    }
+
+    private void removeLocked(Long auctionId) {
+        int[] previous = documents.remove(auctionId);
+        if (previous == null) {
+            return;
+        }
+        for (int gramId : previous) {
+            postings.get(gramId).remove(auctionId);
+        }
+    }
+
+    private int gramCount() {
+        lock.readLock().lock();
+        try {
+            return gramIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void addGrams(Map<String, Byte> target, String text, byte field) {
+        if (text == null) {
+            return;
+        }
+        for (String word : KeywordUtils.words(text)) {
+            for (String gram : grams(word)) {
+                target.merge(gram, field, (a, b) -> (byte) (a | b));
+            }
+        }
+    }
+
+    // 2-gram (한 글자 단어는 그대로)
+    static List<String> grams(String word) {
+        if (word.length() < 2) {
+            return List.of(word);
+        }
+        List<String> grams = new ArrayList<>(word.length() - 1);
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            grams.add(word.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static int weight(byte fields) {
+        int weight = 0;
+        if ((fields & TITLE) != 0) weight += 3;
+        if ((fields & SPECIES) != 0) weight += 2;
+        if ((fields & DESCRIPTION) != 0) weight += 1;
+        return weight;
+    }
+
+    @FunctionalInterface
+    private interface MatchConsumer {
+        void accept(long auctionId, int score);
+    }
+
+    // 박싱 없는 long 목록
+    private static class LongBuffer {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * gram 하나의 경매 목록 (id 오름차순, 쓰기 락 안에서만 변경)
+     * 경매 id 는 증가하므로 등록은 대부분 끝에 추가
+     */
+    private static class Postings {
+
+        private long[] ids = new long[4];
+        private byte[] fields = new byte[4];
+        private int size;
+
+        void put(long auctionId, byte field) {
+            if (size > 0 && ids[size - 1] < auctionId) {
+                insertAt(size, auctionId, field);
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, auctionId);
+            if (index >= 0) {
+                fields[index] = field;
+            } else {
+                insertAt(-index - 1, auctionId, field);
+            }
+        }
+
+        void remove(long auctionId) {
+            int index = Arrays.binarySearch(ids, 0, size, auctionId);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                System.arraycopy(fields, index + 1, fields, index, size - index - 1);
+                size--;
+            }
+        }
+
+        // from 이후에서 auctionId 이상인 첫 위치 (없으면 size)
+        int seek(long auctionId, int from) {
+            int bound = 1;
+            while (from + bound < size && ids[from + bound] < auctionId) {
+                bound <<= 1;
+            }
+            int low = from + (bound >> 1);
+            int high = Math.min(from + bound, size - 1);
+            if (low >= size || ids[high] < auctionId) {
+                return size;
+            }
+            int index = Arrays.binarySearch(ids, low, high + 1, auctionId);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        private void insertAt(int index, long auctionId, byte field) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                fields = Arrays.copyOf(fields, capacity);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            System.arraycopy(fields, index, fields, index + 1, size - index);
+            ids[index] = auctionId;
+            fields[index] = field;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.auction.back.domain.auction.service.settlement;
+
+import com.auction.back.domain.auction.engine.ProxyBidBook;
+import com.auction.back.domain.auction.entity.AuctionSettlement;
+import com.auction.back.domain.auction.enums.SettlementStatus;
+import com.auction.back.domain.auction.repository.AuctionSettlementRepository;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateStore;
+import com.auction.back.domain.user.repository.UserRepository;
+import com.auction.back.domain.user.service.point.PointHoldService;
+import com.auction.back.global.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 경매 정산 outbox 처리
+ * - 정산 1건 = 트랜잭션 1개, PENDING → DONE 조건부 전환에 성공한 경우에만 포인트 이동 (재시도/중복 실행에 안전)
+ * - 포인트 이동은 UPDATE 증감 1회씩 (다른 노드의 정산/결제와 같은 사용자가 겹쳐도 유실 없음)
+ * - Redis 캐시(보류 해제/잔액 캐시 삭제)와 실시간 상태 정리는 커밋 후
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionSettlementService {
+
+    private final AuctionSettlementRepository settlementRepository;
+    private final UserRepository userRepository;
+    private final PointHoldService pointHoldService;
+    private final AuctionLiveStateStore liveStateStore;
+    private final ProxyBidBook proxyBidBook;
+
+    @Value("${auction.settlement.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${auction.settlement.retry-delay-ms:1000}")
+    private long retryDelayMillis;
+
+    /**
+     * 처리 시각이 된 PENDING 정산 중 주어진 파티션에 속한 것만 (다른 노드 파티션의 행은 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public List<AuctionSettlement> findPending(int partitionCount, Collection<Integer> partitions, int limit) {
+        return settlementRepository.findDue(SettlementStatus.PENDING, LocalDateTime.now(),
+                partitionCount, partitions, PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    public void settle(Long settlementId) {
+        if (settlementRepository.complete(settlementId, SettlementStatus.PENDING, SettlementStatus.DONE, LocalDateTime.now()) == 0) {
+            return; // 이미 처리됨
+        }
+        AuctionSettlement settlement = settlementRepository.findById(settlementId).orElseThrow();
+        Long auctionId = settlement.getAuctionId();
+
+        if (settlement.hasWinner()) {
+            long price = settlement.getAmount();
+            String winnerEmail = settlement.getWinnerEmail();
+
+            if (userRepository.usePoint(winnerEmail, price) == 0) {
+                log.warn("낙찰자 포인트 부족. auctionId={}, bidder={}", auctionId, winnerEmail);
+                // 낙찰 무효 로직 ...
+                // 보류 해제는 커밋 후 (롤백되어 재시도될 때 보류가 먼저 풀리지 않도록)
+                TransactionUtils.afterCommit(() -> pointHoldService.releaseHold(winnerEmail, auctionId, price));
+            } else {
+                // 입찰 시 보류한 포인트 소진 + 잔액 캐시 삭제 (커밋 후)
+                pointHoldService.settleHold(winnerEmail, auctionId);
+            }
+
+            String sellerEmail = settlement.getSellerEmail();
+            if (sellerEmail != null) {
+                userRepository.chargePoint(sellerEmail, price);
+                pointHoldService.evictBalance(sellerEmail);
+            }
+            log.info("정산 완료. auctionId={}, winner={}, price={}", auctionId, winnerEmail, price);
+        }
+
+        // 실시간 상태 / 자동입찰 장부 정리 (여러 번 실행되어도 결과 동일)
+        TransactionUtils.afterCommit(() -> {
+            liveStateStore.delete(auctionId);
+            proxyBidBook.clear(auctionId);
+        });
+    }
+
+    // 더 이상 재시도하지 않는 정산: 낙찰자 보류 포인트 해제 + 실시간 상태/마감시각 인덱스/자동입찰 장부 정리 (커밋 후)
+    private void discardAfterCommit(AuctionSettlement settlement) {
+        Long auctionId = settlement.getAuctionId();
+        String winnerEmail = settlement.hasWinner() ? settlement.getWinnerEmail() : null;
+        long amount = settlement.getAmount();
+        TransactionUtils.afterCommit(() -> {
+            if (winnerEmail != null) {
+                pointHoldService.releaseHold(winnerEmail, auctionId, amount);
+            }
+            liveStateStore.delete(auctionId);
+            proxyBidBook.clear(auctionId);
+        });
+    }
+
+    @Transactional
+    public void recordFailure(Long settlementId, Throwable error) {
+        settlementRepository.findById(settlementId).ifPresent(settlement -> {
+            settlement.recordFailure(error.getClass().getSimpleName() + ": " + error.getMessage(),
+                    maxAttempts, retryDelayMillis, LocalDateTime.now());
+            if (settlement.getStatus() == SettlementStatus.FAILED) {
+                log.error("정산 재시도 한도 초과. settlementId={}, auctionId={}", settlementId, settlement.getAuctionId(), error);
+                discardAfterCommit(settlement);
+            }
+        });
+    }
+}
@@ -3,5 +3,9 @@ package com.auction.back.domain.auction.service.ws;
 import com.auction.back.domain.auction.dto.ws.BidResultDto;
 
 public interface AuctionWebSocketService {
-    public BidResultDto placeBid(Long auctionId, double bidAmount, String userEmail);
+    public BidResultDto placeBid(Long auctionId, long bidAmount, String userEmail);
+    // 클라이언트 입찰 ID 포함 (같은 ID 로 이미 처리된 입찰이면 DuplicateBidException)
+    public BidResultDto placeBid(Long auctionId, long bidAmount, String userEmail, String bidId);
+    // 자동입찰(최대 입찰가) 등록, 입찰이 발생하지 않았으면 null
+    public BidResultDto registerProxyBid(Long auctionId, long maxAmount, String userEmail);
 }
@@ -1,92 +1,248 @@
 package com.auction.back.domain.auction.service.ws;
 
 import com.auction.back.domain.auction.dto.ws.BidResultDto;
+import com.auction.back.domain.auction.engine.ProxyBidBook;
+import com.auction.back.domain.auction.engine.ProxyBidBook.ProxyBidDecision;
+import com.auction.back.domain.bid.service.history.BidHistoryBuffer;
+import com.auction.back.domain.bid.service.history.BidRecord;
 import com.auction.back.domain.user.entity.User;
 import com.auction.back.domain.user.repository.UserRepository;
 import com.auction.back.domain.auction.repository.AuctionRepository;
-import com.auction.back.domain.auction.entity.Auction;
+import com.auction.back.domain.auction.scheduler.AuctionScheduler;
+import com.auction.back.domain.auction.service.live.AuctionLiveState;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateStore;
+import com.auction.back.domain.auction.service.ws.BidMetrics.Stage;
+import com.auction.back.domain.user.service.point.PointHoldService;
+import com.auction.back.domain.user.service.point.PointRedisKeys;
 import com.auction.back.global.redis.RedisService;
+import com.auction.back.global.utils.DateTimeUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuctionWebSocketServiceImpl implements AuctionWebSocketService {
 
+    /**
+     * 상태/마감시간/최고가/가용 포인트 검증 + 최고가/최고입찰자 갱신 + 포인트 보류 + 마감 연장을
+     * Redis 서버에서 한 번에 원자적으로 처리하는 스크립트
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PLACE_BID_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/place_bid.lua"), List.class);
+
+    // 한 번의 입찰에서 자동입찰 경쟁을 해소하며 적용할 수 있는 최대 입찰 수 (포인트 부족 등으로 탈락하는 경우 대비)
+    private static final int MAX_PROXY_ROUNDS = 16;
+
     private final RedisService redisService;
     private final UserRepository userRepository;
     private final AuctionRepository auctionRepository;
+    private final PointHoldService pointHoldService;
+    private final BidHistoryBuffer bidHistoryBuffer;
+    private final ProxyBidBook proxyBidBook;
+    private final AuctionLiveStateStore liveStateStore;
+    private final BidMetrics bidMetrics;
+    private final AuctionScheduler auctionScheduler;
+    private final BidDeduplicator bidDeduplicator;
+
+    /**
+     * 수동 입찰 후 자동입찰 경쟁까지 한 번에 해소
+     * 반환값은 최종 상태 (브로드캐스트 1회)
+     * BidEngine 샤드 스레드에서 호출되므로 경매별 자동입찰 장부는 락 없이 접근
+     */
+    @Override
+    public BidResultDto placeBid(Long auctionId, long bidAmount, String userEmail) {
+        return placeBid(auctionId, bidAmount, userEmail, null);
+    }
 
     @Override
-    @Transactional
-    public BidResultDto placeBid(Long auctionId, double bidAmount, String userEmail) {
-        // 1) 사용자 조회 & 포인트 검증
-        System.out.println("입찰 서비스 시작");
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("사용자 없음"));
-        if (user.getPointBalance() < bidAmount) {
-            throw new RuntimeException("포인트가 부족하여 입찰할 수 없습니다.");
+    public BidResultDto placeBid(Long auctionId, long bidAmount, String userEmail, String bidId) {
+        if (log.isDebugEnabled()) {
+            log.debug("입찰 처리 시작. auctionId={}, bidder={}, amount={}", auctionId, userEmail, bidAmount);
         }
+        BidResultDto result = applyBid(auctionId, bidAmount, userEmail, bidId);
+        long proxyStart = System.nanoTime();
+        BidResultDto resolved = resolveProxyBids(auctionId, result);
+        bidMetrics.record(Stage.PROXY, proxyStart);
+        return resolved;
+    }
 
-        System.out.println("입찰 서비스 유저검색끝 ");
-        // 2) Redis에서 현재 경매 상태, 마감시간, 최고가, 최고입찰자 가져옴
-        String statusKey = "auction:" + auctionId + ":status";
-        String endTimeKey = "auction:" + auctionId + ":endTime";
-        String highestPriceKey = "auction:" + auctionId + ":highestPrice";
-        String highestBidderKey = "auction:" + auctionId + ":highestBidder";
-
-        System.out.println("경매진행 확인 ");
-        String currentStatus = redisService.getValue(statusKey);
-        if (!"ONGOING".equals(currentStatus)) {
-            throw new RuntimeException("경매가 진행중이 아니므로 입찰할 수 없습니다. (현재상태=" + currentStatus + ")");
+    @Override
+    public BidResultDto registerProxyBid(Long auctionId, long maxAmount, String userEmail) {
+        AuctionLiveState state = liveStateStore.get(auctionId);
+        if (state == null || !"ONGOING".equals(state.status())) {
+            throw new RuntimeException("경매가 진행중이 아니므로 입찰할 수 없습니다. (현재상태="
+                    + (state != null ? state.status() : null) + ")");
         }
-        System.out.println("경매진행 확인 완료 ");
-        String endTimeStr = redisService.getValue(endTimeKey);
-        // ex) endTimeStr = "2025-01-23T10:30:00" or epoch seconds
-        LocalDateTime dynamicEndTime = LocalDateTime.parse(endTimeStr);
-        // or parse epoch
-
-        // 마감시간이 지났으면 예외
-        if (LocalDateTime.now().isAfter(dynamicEndTime)) {
-            throw new RuntimeException("이미 마감된 경매입니다.");
+        long currentPrice = Long.parseLong(state.highestPrice());
+        String highestBidder = state.highestBidder();
+        if (maxAmount <= currentPrice) {
+            throw new RuntimeException("현재 최고가보다 높아야 합니다.");
         }
-        System.out.println("마감진행 완료 ");
 
-        // 3) 현재 최고가
-        String highestPriceStr = redisService.getValue(highestPriceKey);
-        double currentHighest = (highestPriceStr == null) ? 0.0 : Double.parseDouble(highestPriceStr);
+        proxyBidBook.register(auctionId, userEmail, maxAmount);
+        BidResultDto current = new BidResultDto(
+                auctionId, highestBidder != null ? highestBidder : "", currentPrice, true, null
+        );
+        BidResultDto resolved = resolveProxyBids(auctionId, current);
+        return resolved == current ? null : resolved;
+    }
 
-        if (bidAmount <= currentHighest) {
-            throw new RuntimeException("현재 최고가보다 높아야 합니다.");
+    /**
+     * 자동입찰 상한가 기준으로 경쟁을 해소해 필요한 입찰만 적용
+     * 상한가까지 입찰할 수 없게 된 자동입찰(포인트 부족, 마감 등)은 장부에서 제거
+     */
+    private BidResultDto resolveProxyBids(Long auctionId, BidResultDto result) {
+        String newEndTime = result.getNewEndTime();
+        for (int round = 0; round < MAX_PROXY_ROUNDS; round++) {
+            Optional<ProxyBidDecision> decision =
+                    proxyBidBook.resolve(auctionId, result.getBidderEmail(), result.getHighestPrice());
+            if (decision.isEmpty()) {
+                break;
+            }
+            ProxyBidDecision bid = decision.get();
+            try {
+                result = applyBid(auctionId, bid.amount(), bid.bidderEmail(), null);
+                if (result.getNewEndTime() != null) {
+                    newEndTime = result.getNewEndTime();
+                }
+            } catch (RuntimeException e) {
+                log.info("자동입찰 해제. auctionId={}, bidder={}, reason={}", auctionId, bid.bidderEmail(), e.getMessage());
+                proxyBidBook.remove(auctionId, bid.bidderEmail());
+            }
+        }
+        if (newEndTime != null && result.getNewEndTime() == null) {
+            result = new BidResultDto(auctionId, result.getBidderEmail(), result.getHighestPrice(), true, newEndTime);
         }
-        System.out.println("최고가 확인 오케이 ");
-
-        // 4) 입찰 성공 => 최고가, 최고입찰자 갱신
-        redisService.setValue(highestPriceKey, String.valueOf(bidAmount), 600L);
-        redisService.setValue(highestBidderKey, userEmail, 600L);
-        System.out.println("갱신 확인  ");
-        // ex) 마감 3분 전 입찰 시 5분 연장 = dynamicEndTime.plusMinutes(5)
-        //     if(남은시간 <=3분) => dynamicEndTime = now.plusMinutes(5)
-        long minutesLeft = ChronoUnit.MINUTES.between(LocalDateTime.now(), dynamicEndTime);
-        // 5) 마감 3분 이하 시 5분 연장
-        if (minutesLeft <= 3) {
-            LocalDateTime newEndTime = LocalDateTime.now().plusMinutes(5);
-            redisService.setValue(endTimeKey, newEndTime.toString(), 600L);
-
-            // dto에 담을 String endTime
-            return new BidResultDto(
-                    auctionId, userEmail, bidAmount, true, newEndTime.toString()
-            );
+        return result;
+    }
+
+    /**
+     * 단일 입찰 적용
+     * 입찰 경로에서는 DB를 조회하지 않음
+     * (잔액 캐시가 아직 없을 때만 DB에서 한 번 적재)
+     * bidId 가 있으면 같은 스크립트에서 처리 결과 기록, 이미 처리된 입찰 ID 면 DuplicateBidException
+     */
+    private BidResultDto applyBid(Long auctionId, long bidAmount, String userEmail, String bidId) {
+        List<?> result = evaluateBid(auctionId, bidAmount, userEmail, bidId);
+        if ("NO_BALANCE".equals(result.get(0))) {
+            // 잔액 캐시 적재 후 한 번 더 시도
+            long loadStart = System.nanoTime();
+            User user = userRepository.findByEmail(userEmail)
+                    .orElseThrow(() -> new RuntimeException("사용자 없음"));
+            pointHoldService.loadBalance(userEmail, user.getPointBalance());
+            bidMetrics.record(Stage.BALANCE_LOAD, loadStart);
+            result = evaluateBid(auctionId, bidAmount, userEmail, bidId);
+        }
+
+        String code = (String) result.get(0);
+        String detail = result.size() > 1 ? (String) result.get(1) : "";
+        if (!"ACCEPTED".equals(code)) {
+            bidMetrics.rejected(code);
         }
-        System.out.println("함수 종료끝 ");
-        // 연장 안 한 경우
-        return new BidResultDto(
-                auctionId, userEmail, bidAmount, true, null
+
+        if ("DUPLICATE".equals(code)) {
+            throw new DuplicateBidException(toOutcome(auctionId, userEmail, detail));
+        }
+
+        switch (code) {
+            case "ACCEPTED":
+                bidMetrics.accepted();
+                // 입찰 이력은 버퍼에만 적재 (DB 저장은 BidHistoryWriter 가 비동기 배치로)
+                long historyStart = System.nanoTime();
+                bidHistoryBuffer.append(new BidRecord(auctionId, userEmail, bidAmount, LocalDateTime.now()));
+                bidMetrics.record(Stage.HISTORY, historyStart);
+                // 직전 최고입찰자의 보류 포인트 해제 (본인 재입찰이면 보류가 이미 새 금액으로 대체됨)
+                String previousBidder = (String) result.get(2);
+                if (!previousBidder.isEmpty() && !previousBidder.equals(userEmail)) {
+                    long releaseStart = System.nanoTime();
+                    pointHoldService.releaseHold(previousBidder, auctionId, Long.parseLong((String) result.get(3)));
+                    bidMetrics.record(Stage.HOLD_RELEASE, releaseStart);
+                }
+                // 마감이 연장되었으면 스케줄러 마감시각도 갱신
+                if (!detail.isEmpty()) {
+                    auctionScheduler.scheduleEnd(auctionId, LocalDateTime.parse(detail));
+                }
+                // 연장하지 않은 경우 newEndTime = null
+                return new BidResultDto(
+                        auctionId, userEmail, bidAmount, true, detail.isEmpty() ? null : detail
+                );
+            default:
+                String message = rejectionMessage(code, detail);
+                if (message == null) {
+                    throw new IllegalStateException("알 수 없는 입찰 결과: " + code);
+                }
+                throw new RuntimeException(message);
+        }
+    }
+
+    // 입찰 스크립트가 기록한 처리 결과 ("결과코드\n입찰 금액\n부가정보") → 재응답할 결과
+    private BidOutcome toOutcome(Long auctionId, String userEmail, String recorded) {
+        String[] parts = recorded.split("\n", -1);
+        String detail = parts.length > 2 ? parts[2] : "";
+        if ("ACCEPTED".equals(parts[0])) {
+            return BidOutcome.success(new BidResultDto(
+                    auctionId, userEmail, Long.parseLong(parts[1]), true, detail.isEmpty() ? null : detail));
+        }
+        String message = rejectionMessage(parts[0], detail);
+        return BidOutcome.failure(message != null ? message : "입찰이 거절되었습니다.");
+    }
+
+    // 거절 코드 → 입찰자에게 보낼 메시지 (알 수 없는 코드면 null)
+    private static String rejectionMessage(String code, String detail) {
+        switch (code) {
+            case "NOT_ONGOING":
+                return "경매가 진행중이 아니므로 입찰할 수 없습니다. (현재상태="
+                        + (detail.isEmpty() ? null : detail) + ")";
+            case "CLOSED":
+                return "이미 마감된 경매입니다.";
+            case "TOO_LOW":
+                return "현재 최고가보다 높아야 합니다.";
+            case "INSUFFICIENT_POINT":
+            case "NO_BALANCE":
+                return "포인트가 부족하여 입찰할 수 없습니다.";
+            default:
+                return null;
+        }
+    }
+
+    // 상태/마감/최고가/포인트 검증 & 갱신 & 마감 연장 (Redis 스크립트 1회 호출)
+    private List<?> evaluateBid(Long auctionId, long bidAmount, String userEmail, String bidId) {
+        List<String> keys = new ArrayList<>(List.of(
+                AuctionLiveStateStore.key(auctionId),
+                PointRedisKeys.balanceKey(userEmail),
+                PointRedisKeys.holdsKey(userEmail),
+                AuctionLiveStateStore.END_TIME_INDEX_KEY
+        ));
+        if (bidId != null) {
+            keys.add(BidDeduplicator.key(userEmail, bidId));
+        }
+
+        // 마감 3분 전 입찰 시 현재 + 5분으로 연장
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime extendedEndTime = now.plusMinutes(5);
+        long scriptStart = System.nanoTime();
+        List<?> result = redisService.executeScript(PLACE_BID_SCRIPT, keys,
+                String.valueOf(bidAmount),
+                userEmail,
+                DateTimeUtils.toRedisString(now),
+                DateTimeUtils.toRedisString(now.plusMinutes(3)),
+                DateTimeUtils.toRedisString(extendedEndTime),
+                String.valueOf(liveStateStore.expireAtMillis(extendedEndTime)),
+                String.valueOf(auctionId),
+                String.valueOf(liveStateStore.epochMillis(extendedEndTime)),
+                String.valueOf(bidDeduplicator.ttlSeconds())
         );
+        bidMetrics.record(Stage.SCRIPT, scriptStart);
+        return result;
     }
 }
-
@@ -0,0 +1,91 @@
+package com.auction.back.domain.auction.service.ws;
+
+import com.auction.back.domain.auction.dto.ws.BidResultDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /topic/auction/{auctionId} 입찰 결과 브로드캐스트
+ * - conflation-window-ms = 0 : 입찰마다 즉시 전송 (기존 동작)
+ * - conflation-window-ms > 0 : 경매별로 윈도우 동안 최신 상태만 모아서 1회 전송
+ *   (마감 연장 시각은 이후 입찰에 연장이 없어도 유지, 마지막 가격은 항상 전송)
+ */
+@Slf4j
+@Component
+public class BidBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long conflationWindowMillis;
+    private final Map<Long, BidResultDto> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public BidBroadcaster(SimpMessagingTemplate messagingTemplate,
+                          @Value("${auction.broadcast.conflation-window-ms:0}") long conflationWindowMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.conflationWindowMillis = conflationWindowMillis;
+        this.flusher = conflationWindowMillis > 0
+                ? Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "bid-broadcast");
+                    t.setDaemon(true);
+                    return t;
+                })
+                : null;
+    }
+
+    public void publish(Long auctionId, BidResultDto result) {
+        if (flusher == null) {
+            send(auctionId, result);
+            return;
+        }
+        pending.compute(auctionId, (id, previous) -> {
+            if (previous == null) {
+                // 윈도우 시작 → 윈도우 끝에 최신 상태 전송
+                flusher.schedule(() -> flush(id), conflationWindowMillis, TimeUnit.MILLISECONDS);
+                return result;
+            }
+            return merge(previous, result);
+        });
+    }
+
+    private BidResultDto merge(BidResultDto previous, BidResultDto latest) {
+        if (latest.getNewEndTime() != null || previous.getNewEndTime() == null) {
+            return latest;
+        }
+        return new BidResultDto(
+                latest.getAuctionId(), latest.getBidderEmail(), latest.getHighestPrice(),
+                latest.isSuccess(), previous.getNewEndTime()
+        );
+    }
+
+    private void flush(Long auctionId) {
+        BidResultDto latest = pending.remove(auctionId);
+        if (latest != null) {
+            send(auctionId, latest);
+        }
+    }
+
+    private void send(Long auctionId, BidResultDto result) {
+        try {
+            messagingTemplate.convertAndSend("/topic/auction/" + auctionId, result);
+        } catch (RuntimeException e) {
+            log.error("입찰 결과 브로드캐스트 실패. auctionId={}", auctionId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) return;
+        flusher.shutdownNow();
+        // 대기 중인 최신 상태는 종료 전에 전송
+        pending.keySet().forEach(this::flush);
+    }
+}
@@ -0,0 +1,70 @@
+package com.auction.back.domain.auction.service.ws;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 클라이언트 입찰 ID 기반 중복 입찰 제거
+ * - 노드 간/재접속: 입찰 스크립트(place_bid.lua)가 평가와 함께 입찰 ID 처리 결과를 기록 → 추가 Redis 왕복 없음, 처리중 상태 없음
+ * - 노드 로컬: 크기 제한 + 만료시간 있는 성공 결과 캐시 (히트 시 Redis 작업 없음)
+ */
+@Component
+public class BidDeduplicator {
+
+    private final long ttlSeconds;
+    private final Map<String, LocalEntry> localCache;
+
+    public BidDeduplicator(@Value("${auction.bid-dedup.ttl-seconds:600}") long ttlSeconds,
+                           @Value("${auction.bid-dedup.local-capacity:10000}") int localCapacity) {
+        this.ttlSeconds = ttlSeconds;
+        this.localCache = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localCapacity;
+            }
+        };
+    }
+
+    // 입찰 스크립트가 처리 결과를 기록하는 키
+    public static String key(String userEmail, String bidId) {
+        return "bid:dedup:" + userEmail + ":" + bidId;
+    }
+
+    public long ttlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * 이 노드에서 이미 처리한 입찰 ID 면 해당 결과 (없으면 입찰 스크립트에서 확인)
+     */
+    public Optional<BidOutcome> findLocal(String userEmail, String bidId) {
+        return Optional.ofNullable(getLocal(key(userEmail, bidId)));
+    }
+
+    public void remember(String userEmail, String bidId, BidOutcome outcome) {
+        putLocal(key(userEmail, bidId), outcome);
+    }
+
+    private synchronized BidOutcome getLocal(String key) {
+        LocalEntry entry = localCache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() < System.currentTimeMillis()) {
+            localCache.remove(key);
+            return null;
+        }
+        return entry.outcome();
+    }
+
+    private synchronized void putLocal(String key, BidOutcome outcome) {
+        localCache.put(key, new LocalEntry(outcome, System.currentTimeMillis() + ttlSeconds * 1000));
+    }
+
+    private record LocalEntry(BidOutcome outcome, long expiresAtMillis) {
+    }
+}
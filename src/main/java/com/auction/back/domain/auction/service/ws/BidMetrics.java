@@ -0,0 +1,72 @@
+package com.auction.back.domain.auction.service.ws;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 파이프라인 단계별 지연시간 / 거절 사유별 건수
+ * /actuator/metrics/auction.bid.stage?tag=stage:SCRIPT 형태로 조회
+ * 미터는 미리 만들어 두고 입찰 경로에서는 기록만 함
+ */
+@Component
+public class BidMetrics {
+
+    public enum Stage {
+        QUEUE_WAIT,      // 샤드 큐 대기
+        DEDUP,           // 중복 입찰 확인
+        BALANCE_LOAD,    // 잔액 캐시 미스 시 사용자 조회 + 적재
+        SCRIPT,          // Redis 스크립트 (상태 조회 + 검증 + 갱신을 한 번에)
+        HISTORY,         // 입찰 이력 버퍼 적재
+        HOLD_RELEASE,    // 직전 최고입찰자 보류 해제
+        PROXY,           // 자동입찰 경쟁 해소
+        BROADCAST,       // 브로드캐스트
+        TOTAL            // 수신 ~ 결과 전송
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final Counter accepted;
+
+    public BidMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder("auction.bid.stage")
+                    .description("입찰 처리 단계별 소요시간")
+                    .tag("stage", stage.name())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        this.accepted = Counter.builder("auction.bid.accepted")
+                .description("적용된 입찰 수")
+                .register(registry);
+    }
+
+    /**
+     * startNanos = System.nanoTime() 로 잰 시작 시각
+     */
+    public void record(Stage stage, long startNanos) {
+        timers.get(stage).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void accepted() {
+        accepted.increment();
+    }
+
+    /**
+     * reason = 스크립트 결과 코드 또는 ENGINE_FULL, DUPLICATE 등
+     */
+    public void rejected(String reason) {
+        rejections.computeIfAbsent(reason, r -> Counter.builder("auction.bid.rejected")
+                .description("거절된 입찰 수 (사유별)")
+                .tag("reason", r)
+                .register(registry)).increment();
+    }
+}
@@ -0,0 +1,18 @@
+package com.auction.back.domain.auction.service.ws;
+
+import com.auction.back.domain.auction.dto.ws.BidResultDto;
+
+/**
+ * 클라이언트 입찰 ID 단위 처리 결과 (중복 재전송 시 그대로 재응답)
+ * 성공이면 result, 거절이면 errorMessage
+ */
+public record BidOutcome(BidResultDto result, String errorMessage) {
+
+    public static BidOutcome success(BidResultDto result) {
+        return new BidOutcome(result, null);
+    }
+
+    public static BidOutcome failure(String errorMessage) {
+        return new BidOutcome(null, errorMessage);
+    }
+}
@@ -0,0 +1,19 @@
+package com.auction.back.domain.auction.service.ws;
+
+/**
+ * 같은 클라이언트 입찰 ID 로 이미 처리된 입찰 (입찰 스크립트에서 확인)
+ * 원래 처리 결과를 본인에게만 다시 응답하고 브로드캐스트하지 않음
+ */
+public class DuplicateBidException extends RuntimeException {
+
+    private final BidOutcome outcome;
+
+    public DuplicateBidException(BidOutcome outcome) {
+        super("이미 처리된 입찰입니다.");
+        this.outcome = outcome;
+    }
+
+    public BidOutcome getOutcome() {
+        return outcome;
+    }
+}
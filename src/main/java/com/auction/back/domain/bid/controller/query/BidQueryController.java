@@ -0,0 +1,48 @@
+package com.auction.back.domain.bid.controller.query;
+
+import com.auction.back.domain.bid.dto.response.BidHistoryDto;
+import com.auction.back.domain.bid.dto.response.BidSliceDto;
+import com.auction.back.domain.bid.entity.Bid;
+import com.auction.back.domain.bid.service.query.BidQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/auctions/{auctionId}/bids")
+@RequiredArgsConstructor
+public class BidQueryController {
+
+    private final BidQueryService bidQueryService;
+
+    /**
+     * 경매 입찰 이력 (최신순, 커서 페이징)
+     * e.g. GET /api/auctions/{auctionId}/bids?size=20
+     *      GET /api/auctions/{auctionId}/bids?cursor=123&size=20
+     */
+    @GetMapping
+    public BidSliceDto getBids(@PathVariable Long auctionId,
+                               @RequestParam(required = false) Long cursor,
+                               @RequestParam(defaultValue = "20") int size) {
+        Slice<Bid> slice = bidQueryService.findBids(auctionId, cursor, size);
+
+        List<BidHistoryDto> bids = slice.getContent().stream()
+                .map(bid -> {
+                    BidHistoryDto dto = new BidHistoryDto();
+                    dto.setBidId(bid.getId());
+                    dto.setBidderEmail(bid.getBidderEmail());
+                    dto.setAmount(bid.getAmount());
+                    dto.setBidTime(bid.getBidTime().toString());
+                    return dto;
+                })
+                .toList();
+
+        BidSliceDto dto = new BidSliceDto();
+        dto.setBids(bids);
+        dto.setHasNext(slice.hasNext());
+        dto.setNextCursor(slice.hasNext() && !bids.isEmpty() ? bids.get(bids.size() - 1).getBidId() : null);
+        return dto;
+    }
+}
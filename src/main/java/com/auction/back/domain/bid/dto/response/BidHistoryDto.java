@@ -0,0 +1,11 @@
+package com.auction.back.domain.bid.dto.response;
+
+import lombok.Data;
+
+@Data
+public class BidHistoryDto {
+    private Long bidId;
+    private String bidderEmail;
+    private long amount;
+    private String bidTime;
+}
@@ -0,0 +1,12 @@
+package com.auction.back.domain.bid.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BidSliceDto {
+    private List<BidHistoryDto> bids;
+    private boolean hasNext;
+    private Long nextCursor;    // 다음 요청의 cursor (마지막 입찰 id), 없으면 null
+}
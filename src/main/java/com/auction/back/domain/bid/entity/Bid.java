@@ -0,0 +1,38 @@
+package com.auction.back.domain.bid.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 이력 (낙찰 가능한 입찰만 기록, append-only)
+ * 입찰 경로에서는 메모리 버퍼에만 쌓고 BidHistoryWriter 가 JDBC 배치로 저장
+ */
+@Entity
+@Table(name = "bid", indexes = {
+        @Index(name = "idx_bid_auction_id_id", columnList = "auction_id, id"),
+        @Index(name = "idx_bid_auction_id_bid_time", columnList = "auction_id, bid_time")   // 마감 연장 재계산 (입찰 시각 순)
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Bid {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Column(name = "bidder_email", nullable = false, length = 100)
+    private String bidderEmail;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Column(name = "bid_time", nullable = false)
+    private LocalDateTime bidTime;
+}
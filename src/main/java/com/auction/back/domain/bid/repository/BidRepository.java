@@ -0,0 +1,33 @@
+package com.auction.back.domain.bid.repository;
+
+import com.auction.back.domain.bid.entity.Bid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BidRepository extends JpaRepository<Bid, Long> {
+    // 최신 입찰부터 (첫 페이지)
+    Slice<Bid> findByAuctionIdOrderByIdDesc(Long auctionId, Pageable pageable);
+    // 커서(id) 이전 입찰부터
+    Slice<Bid> findByAuctionIdAndIdLessThanOrderByIdDesc(Long auctionId, Long cursor, Pageable pageable);
+
+    // 경매별 최고 입찰 = 현재 최고가/최고입찰자 (이력은 비동기 배치로 저장되어 id 순서가 입찰 순서와 다를 수 있으므로 금액 기준)
+    // 같은 금액이면 먼저 저장된 입찰
+    @Query("select b from Bid b where b.auctionId in :auctionIds and not exists " +
+            "(select 1 from Bid b2 where b2.auctionId = b.auctionId " +
+            "and (b2.amount > b.amount or (b2.amount = b.amount and b2.id < b.id)))")
+    List<Bid> findWinningBids(@Param("auctionIds") Collection<Long> auctionIds);
+
+    // [auctionId, bidTime] 입찰 시각 순서대로 (마감 연장 재계산용)
+    // 이력은 노드별 비동기 배치로 저장되어 id 순서가 입찰 순서와 다를 수 있으므로 bidTime 순, 같은 시각은 id 순
+    @Query("select b.auctionId, b.bidTime from Bid b " +
+            "where b.auctionId in :auctionIds and b.bidTime >= :since order by b.auctionId, b.bidTime, b.id")
+    List<Object[]> findBidTimesSince(@Param("auctionIds") Collection<Long> auctionIds,
+                                     @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,40 @@
+package com.auction.back.domain.bid.service.history;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 입찰 이력 append-only 메모리 버퍼
+ * 입찰 경로는 offer 만 하고 즉시 리턴 → 입찰 지연이 DB 쓰기 지연과 무관
+ */
+@Slf4j
+@Component
+public class BidHistoryBuffer {
+
+    private final BlockingQueue<BidRecord> queue;
+
+    public BidHistoryBuffer(@Value("${auction.bid-history.buffer-capacity:100000}") int capacity) {
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    public void append(BidRecord record) {
+        if (!queue.offer(record)) {
+            // 버퍼가 가득 참 (DB 장애 등) → 입찰은 막지 않고 로그로 남김
+            log.error("입찰 이력 버퍼 초과로 저장 누락. auctionId={}, bidder={}, amount={}, bidTime={}",
+                    record.auctionId(), record.bidderEmail(), record.amount(), record.bidTime());
+        }
+    }
+
+    int drainTo(List<BidRecord> target, int maxElements) {
+        return queue.drainTo(target, maxElements);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+}
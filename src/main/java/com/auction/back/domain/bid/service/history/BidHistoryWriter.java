@@ -0,0 +1,76 @@
+package com.auction.back.domain.bid.service.history;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 입찰 이력 버퍼를 주기적으로 비워 JDBC 배치 INSERT
+ * (스케줄러 스레드에서만 실행)
+ */
+@Slf4j
+@Component
+public class BidHistoryWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bid (auction_id, bidder_email, amount, bid_time) VALUES (?, ?, ?, ?)";
+
+    private final BidHistoryBuffer buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    // 저장 실패한 배치 (다음 주기에 먼저 재시도)
+    private List<BidRecord> failedBatch = List.of();
+
+    public BidHistoryWriter(BidHistoryBuffer buffer,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${auction.bid-history.batch-size:500}") int batchSize) {
+        this.buffer = buffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.bid-history.flush-interval-ms:200}")
+    public void flush() {
+        if (!failedBatch.isEmpty()) {
+            if (!write(failedBatch)) return;
+            failedBatch = List.of();
+        }
+
+        List<BidRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            if (!write(batch)) {
+                failedBatch = batch;
+                return;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private boolean write(List<BidRecord> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, record) -> {
+                ps.setLong(1, record.auctionId());
+                ps.setString(2, record.bidderEmail());
+                ps.setLong(3, record.amount());
+                ps.setTimestamp(4, Timestamp.valueOf(record.bidTime()));
+            });
+            return true;
+        } catch (RuntimeException e) {
+            log.error("입찰 이력 배치 저장 실패. size={}", batch.size(), e);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
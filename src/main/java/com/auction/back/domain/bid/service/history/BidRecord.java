@@ -0,0 +1,9 @@
+package com.auction.back.domain.bid.service.history;
+
+import java.time.LocalDateTime;
+
+/**
+ * 버퍼에 쌓이는 입찰 한 건 (DB 저장 전)
+ */
+public record BidRecord(Long auctionId, String bidderEmail, long amount, LocalDateTime bidTime) {
+}
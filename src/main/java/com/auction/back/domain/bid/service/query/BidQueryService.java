@@ -0,0 +1,9 @@
+package com.auction.back.domain.bid.service.query;
+
+import com.auction.back.domain.bid.entity.Bid;
+import org.springframework.data.domain.Slice;
+
+public interface BidQueryService {
+    // 경매 입찰 이력 (커서 기반, 최신순)
+    Slice<Bid> findBids(Long auctionId, Long cursor, int size);
+}
@@ -0,0 +1,29 @@
+package com.auction.back.domain.bid.service.query;
+
+import com.auction.back.domain.bid.entity.Bid;
+import com.auction.back.domain.bid.repository.BidRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BidQueryServiceImpl implements BidQueryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final BidRepository bidRepository;
+
+    @Override
+    public Slice<Bid> findBids(Long auctionId, Long cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        if (cursor == null) {
+            return bidRepository.findByAuctionIdOrderByIdDesc(auctionId, pageable);
+        }
+        return bidRepository.findByAuctionIdAndIdLessThanOrderByIdDesc(auctionId, cursor, pageable);
+    }
+}
@@ -34,9 +34,9 @@ public class Payment {
     // 결제 수단 (카드, 가상계좌, etc.)
     private String payMethod;
 
-    // 결제 금액 (PortOne API에서 검증한 실제 금액)
+    // 결제 금액 (PortOne API에서 검증한 실제 금액, 원 단위 정수)
     @Column(nullable = false)
-    private double paidAmount;
+    private long paidAmount;
 
     // 결제 상태 (PAID, CANCELED, FAILED 등)
     @Enumerated(EnumType.STRING)
@@ -48,11 +48,12 @@ public class Payment {
     private String buyerEmail;          // 구매자 이메일
     private String receiptUrl;          // 영수증 URL
 
-    // 결제 완료 후 User에게 포인트 반영 (포인트 충전용 결제라고 가정)
-    public void applyPointToUser() {
+    // 결제 완료 시 User에게 충전할 포인트 (포인트 충전용 결제라고 가정), 미결제면 0
+    public long pointAmount() {
         if (this.status == PaymentStatus.PAID && user != null) {
-            user.chargePoint(this.paidAmount*1000);
+            return this.paidAmount*1000;
         }
+        return 0;
     }
     //결제 상태를 업데이트
     public void updateStatus(PaymentStatus newStatus) {
@@ -7,6 +7,8 @@ import com.auction.back.domain.payment.enums.PaymentStatus;
 import com.auction.back.domain.payment.infrastructure.PortOneApiClient;
 import com.auction.back.domain.payment.repository.PaymentRepository;
 import com.auction.back.domain.user.entity.User;
+import com.auction.back.domain.user.repository.UserRepository;
+import com.auction.back.domain.user.service.point.PointHoldService;
 import com.auction.back.domain.user.service.query.UserQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,8 @@ public class PaymentCommandServiceImpl implements PaymentCommandService {
     private final UserQueryService userQueryService;      // 이메일로 User 조회용
     private final PortOneApiClient portOneApiClient;      // PortOne API 호출
     private final PaymentRepository paymentRepository;
+    private final PointHoldService pointHoldService;      // 입찰용 잔액 캐시 동기화
+    private final UserRepository userRepository;          // 포인트 증감 (UPDATE 1회)
 
     @Override
     public PaymentResponseDto processPayment(PaymentRequestDto requestDto) {
@@ -34,7 +38,7 @@ public class PaymentCommandServiceImpl implements PaymentCommandService {
         Map<String, Object> paymentData = portOneApiClient.getPaymentInfo(requestDto.getImpUid());
 
         // paymentData에서 필요한 필드를 추출
-        double amount = ((Number) paymentData.get("amount")).doubleValue();
+        long amount = ((Number) paymentData.get("amount")).longValue();
         String statusStr = (String) paymentData.get("status");         // "paid", "failed", "cancelled" etc.
         String pgProvider = (String) paymentData.get("pg_provider");   // ex) html5_inicis, kakao
         String payMethod = (String) paymentData.get("pay_method");     // 카드, 가상계좌 등
@@ -77,14 +81,16 @@ public class PaymentCommandServiceImpl implements PaymentCommandService {
         // 4) DB 저장
         Payment saved = paymentRepository.save(payment);
 
-        // 5) 결제 상태가 PAID라면, 포인트 충전
+        // 5) 결제 상태가 PAID라면, 포인트 충전 (조회 후 수정 대신 UPDATE 증감 → 동시 정산과 겹쳐도 유실 없음)
         if (saved.getStatus() == PaymentStatus.PAID) {
-            saved.applyPointToUser();  // user.chargePoint(saved.getPaidAmount()) 호출
+            userRepository.chargePoint(user.getEmail(), saved.pointAmount());
+            // 6) 입찰 잔액 캐시 삭제 → 다음 입찰에서 충전 후 잔액으로 다시 적재 (커밋 후)
+            pointHoldService.evictBalance(user.getEmail());
         }
 
         // 7) 결과를 PaymentResponseDto로 포장
         boolean isSuccess = (paymentStatus == PaymentStatus.PAID);
-        double updatedPoint = user.getPointBalance();  // 결제 후 최신 포인트
+        long updatedPoint = userQueryService.findByEmail(user.getEmail()).getPointBalance();  // 결제 후 최신 포인트
         String message = isSuccess ? "결제 및 포인트 충전 성공" : "결제 실패 혹은 취소";
 
         //8)테스트용 충전 후 환불
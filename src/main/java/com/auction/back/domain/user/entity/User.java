@@ -51,13 +51,13 @@ public class User {
     private UserRole role;        // ADMIN, USER
 
     @Column(nullable = false)
-    private double pointBalance;  // 포인트 잔액
+    private long pointBalance;    // 포인트 잔액 (원 단위 정수)
 
-    public void chargePoint(double amount) {
+    public void chargePoint(long amount) {
         this.pointBalance += amount;
     }
 
-    public void usePoint(double amount) {
+    public void usePoint(long amount) {
         this.pointBalance -= amount;
     }
 }
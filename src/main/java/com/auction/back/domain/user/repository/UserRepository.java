@@ -2,6 +2,9 @@ package com.auction.back.domain.user.repository;
 
 import com.auction.back.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,4 +13,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     //이메일 관련 사용자 유무
     boolean existsByEmail(String email);
+
+    // 포인트 증감은 조회 후 수정 대신 UPDATE 1회로 (여러 노드의 정산/충전이 겹쳐도 유실 없음)
+    // 포인트 충전 (판매대금 입금, 결제)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.pointBalance = u.pointBalance + :amount where u.email = :email")
+    int chargePoint(@Param("email") String email, @Param("amount") long amount);
+
+    // 포인트 차감 (잔액이 충분할 때만, 반환값 0 = 잔액 부족 또는 사용자 없음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.pointBalance = u.pointBalance - :amount " +
+            "where u.email = :email and u.pointBalance >= :amount")
+    int usePoint(@Param("email") String email, @Param("amount") long amount);
 }
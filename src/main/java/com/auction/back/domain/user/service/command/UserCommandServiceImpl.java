@@ -37,7 +37,7 @@ public class UserCommandServiceImpl implements UserCommandService {
                 .gender(Gender.valueOf(dto.getGender())) // "MALE" -> Gender.MALE
                 .status(UserStatus.ACTIVE)
                 .role(UserRole.USER)
-                .pointBalance(0.0)
+                .pointBalance(0L)
                 .build();
 
         userRepository.save(user);
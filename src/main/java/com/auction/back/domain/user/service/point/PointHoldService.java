@@ -0,0 +1,12 @@
+package com.auction.back.domain.user.service.point;
+
+public interface PointHoldService {
+    // 잔액 캐시가 없으면 DB 잔액으로 적재 (이미 있으면 유지)
+    void loadBalance(String email, long balance);
+    // 상회 입찰 당한 경매의 보류 포인트 해제
+    void releaseHold(String email, Long auctionId, long amount);
+    // 낙찰 정산: 보류 포인트 소진 + 잔액 캐시 삭제 (커밋 후, 스크립트 1회)
+    void settleHold(String email, Long auctionId);
+    // 잔액 캐시를 커밋 후 삭제 → 다음 입찰에서 DB 잔액으로 다시 적재 (판매대금 입금, 포인트 충전)
+    void evictBalance(String email);
+}
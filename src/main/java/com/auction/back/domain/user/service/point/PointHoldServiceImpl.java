@@ -0,0 +1,54 @@
+package com.auction.back.domain.user.service.point;
+
+import com.auction.back.global.redis.RedisService;
+import com.auction.back.global.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Redis 기반 포인트 잔액 캐시 + 경매별 보류(hold)
+ * - 입찰 시 가용 포인트(잔액 - 보류) 검증과 보류는 입찰 스크립트(place_bid.lua)에서 함께 처리
+ * - DB 포인트가 바뀌는 정산/충전은 트랜잭션 커밋 후 잔액 캐시를 삭제 → 다음 입찰에서 DB 잔액으로 다시 적재
+ *   (잔액 값을 쓰지 않으므로 커밋 후 작업 순서가 뒤바뀌어도 오래된 잔액이 남지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class PointHoldServiceImpl implements PointHoldService {
+
+    private static final RedisScript<Long> RELEASE_HOLD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release_hold.lua"), Long.class);
+    private static final RedisScript<Long> SETTLE_HOLD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/settle_hold.lua"), Long.class);
+
+    private static final long BALANCE_TTL_SECONDS = 3600L;
+
+    private final RedisService redisService;
+
+    @Override
+    public void loadBalance(String email, long balance) {
+        redisService.setValueIfAbsent(PointRedisKeys.balanceKey(email), String.valueOf(balance), BALANCE_TTL_SECONDS);
+    }
+
+    @Override
+    public void releaseHold(String email, Long auctionId, long amount) {
+        redisService.executeScript(RELEASE_HOLD_SCRIPT,
+                List.of(PointRedisKeys.holdsKey(email)),
+                String.valueOf(auctionId), String.valueOf(amount));
+    }
+
+    @Override
+    public void settleHold(String email, Long auctionId) {
+        TransactionUtils.afterCommit(() -> redisService.executeScript(SETTLE_HOLD_SCRIPT,
+                List.of(PointRedisKeys.balanceKey(email), PointRedisKeys.holdsKey(email)),
+                String.valueOf(auctionId)));
+    }
+
+    @Override
+    public void evictBalance(String email) {
+        TransactionUtils.afterCommit(() -> redisService.deleteValue(PointRedisKeys.balanceKey(email)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.auction.back.domain.user.service.point;
+
+/**
+ * 포인트 잔액 캐시 / 보류 Redis 키
+ */
+public class PointRedisKeys {
+
+    // 잔액 캐시 (DB pointBalance 사본)
+    public static String balanceKey(String email) {
+        return "user:" + email + ":point";
+    }
+
+    // 경매별 보류 포인트 해시 (field = auctionId, value = 보류 금액)
+    public static String holdsKey(String email) {
+        return "user:" + email + ":holds";
+    }
+}
@@ -0,0 +1,36 @@
+package com.auction.back.global.cluster;
+
+import com.auction.back.global.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 살아있는 노드 목록 (정렬 집합, 점수 = 마지막 하트비트 epoch millis)
+ * 하트비트가 ttl 동안 없으면 목록에서 제외
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterMembership {
+
+    private static final String NODES_KEY = "cluster:nodes";
+
+    private final RedisService redisService;
+
+    /**
+     * 하트비트 기록 후 살아있는 노드 ID 목록 (이름순)
+     */
+    public List<String> heartbeat(String nodeId, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        redisService.addToSortedSet(NODES_KEY, nodeId, now);
+        redisService.removeFromSortedSetByScore(NODES_KEY, 0, now - ttlMillis);
+        return redisService.getSortedSetRangeByScore(NODES_KEY, now - ttlMillis, Double.MAX_VALUE).stream()
+                .sorted()
+                .toList();
+    }
+
+    public void leave(String nodeId) {
+        redisService.removeFromSortedSet(NODES_KEY, nodeId);
+    }
+}
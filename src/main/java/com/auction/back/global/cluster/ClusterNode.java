@@ -0,0 +1,34 @@
+package com.auction.back.global.cluster;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * 현재 노드 식별자 (리스 소유자 등)
+ * auction.node-id 미설정 시 호스트명 + 임의값 (재시작하면 다른 노드로 취급)
+ */
+@Getter
+@Component
+public class ClusterNode {
+
+    private final String nodeId;
+
+    public ClusterNode(@Value("${auction.node-id:}") String configuredNodeId) {
+        this.nodeId = configuredNodeId.isBlank()
+                ? hostName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+                : configuredNodeId;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node";
+        }
+    }
+}
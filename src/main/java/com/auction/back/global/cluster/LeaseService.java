@@ -0,0 +1,50 @@
+package com.auction.back.global.cluster;
+
+import com.auction.back.global.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Redis 기반 리스 (이름별 단일 소유자, 만료시간 내 갱신하지 않으면 다른 노드가 획득)
+ * 획득할 때마다 전역 카운터에서 펜싱 토큰을 받음 → 나중 소유자의 토큰이 항상 더 큼
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaseService {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/acquire_lease.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release_lease.lua"), Long.class);
+
+    private static final String FENCE_KEY = "lease:fence";
+
+    private final RedisService redisService;
+
+    /**
+     * 획득 또는 갱신 → 펜싱 토큰, 다른 노드가 보유 중이면 0
+     */
+    public long tryAcquire(String name, String owner, long ttlMillis) {
+        Long token = redisService.executeScript(ACQUIRE_SCRIPT, List.of(key(name), FENCE_KEY),
+                owner, String.valueOf(ttlMillis));
+        return token != null ? token : 0L;
+    }
+
+    public void release(String name, String owner) {
+        redisService.executeScript(RELEASE_SCRIPT, List.of(key(name)), owner);
+    }
+
+    // 현재 소유자 (없으면 null, 진단용)
+    public String currentOwner(String name) {
+        String value = redisService.getValue(key(name));
+        return value == null ? null : value.substring(0, value.lastIndexOf('|'));
+    }
+
+    private String key(String name) {
+        return "lease:" + name;
+    }
+}
@@ -30,8 +30,9 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // CORS 설정 추가
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
+                        // 먼저 일치한 규칙이 적용되므로 관리자 경로를 전체 허용보다 앞에 둠
+                        .requestMatchers("/admin/**", "/api/admin/**").hasRole("ADMIN")  // ROLE_ADMIN만 접근 가능
                         .requestMatchers("/**").permitAll()  // 로그인과 회원가입은 허용
-                        .requestMatchers("/admin/**").hasRole("ADMIN")  // ROLE_ADMIN만 접근 가능
                         .anyRequest().authenticated()  // 그 외 모든 요청은 인증된 사용자만 허용
                 )
                 .addFilterBefore(jwtAuthenticationFilter, org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.class);
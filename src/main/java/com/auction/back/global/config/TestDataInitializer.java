@@ -125,7 +125,7 @@ public class TestDataInitializer implements CommandLineRunner {
                     .status(AuctionStatus.ENDED)
                     .seller(admin)
                     .winner(user1) // 낙찰자
-                    .finalPrice((double)(30000 + i * 100)) // 낙찰가 = 시작가
+                    .finalPrice((long)(30000 + i * 100)) // 낙찰가 = 시작가
                     .finalEndTime(endTime) // 실제 종료 시각
                     .build();
             auctions.add(auction);
@@ -134,8 +134,8 @@ public class TestDataInitializer implements CommandLineRunner {
             // user1 -> 포인트 차감
             // admin -> 포인트 증가
             // (DB flush 시점에 반영)
-            user1.usePoint((double)(30000 + i * 100));
-            admin.chargePoint((double)(30000 + i * 100));
+            user1.usePoint((long)(30000 + i * 100));
+            admin.chargePoint((long)(30000 + i * 100));
         }
 
         auctionRepository.saveAll(auctions);
@@ -1,11 +1,24 @@
 package com.auction.back.global.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +32,12 @@ public class RedisService {
         ops.set(key, value, Duration.ofSeconds(timeoutSeconds));
     }
 
+    // 키가 없을 때만 저장 (만료시간 적용)
+    public boolean setValueIfAbsent(String key, String value, long timeoutSeconds) {
+        ValueOperations<String, String> ops = redisTemplate.opsForValue();
+        return Boolean.TRUE.equals(ops.setIfAbsent(key, value, Duration.ofSeconds(timeoutSeconds)));
+    }
+
     // 값 조회
     public String getValue(String key) {
         ValueOperations<String, String> ops = redisTemplate.opsForValue();
@@ -29,4 +48,88 @@ public class RedisService {
     public void deleteValue(String key) {
         redisTemplate.delete(key);
     }
+
+    // 해시 여러 필드 저장
+    public void setHash(String key, Map<String, String> fields) {
+        HashOperations<String, String, String> ops = redisTemplate.opsForHash();
+        ops.putAll(key, fields);
+    }
+
+    // 해시 필드 여러 개 조회 (HMGET, 없는 필드는 null)
+    public List<String> getHashValues(String key, List<String> fields) {
+        HashOperations<String, String, String> ops = redisTemplate.opsForHash();
+        return ops.multiGet(key, fields);
+    }
+
+    // 여러 해시에서 같은 필드들을 파이프라인으로 한 번에 조회 (키 순서대로 결과)
+    @SuppressWarnings("unchecked")
+    public List<List<String>> getHashValuesPipelined(List<String> keys, List<String> fields) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        byte[][] rawFields = fields.stream()
+                .map(f -> f.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.hashCommands().hMGet(key.getBytes(StandardCharsets.UTF_8), rawFields);
+            }
+            return null;
+        });
+        List<List<String>> values = new ArrayList<>(results.size());
+        for (Object result : results) {
+            values.add((List<String>) result);
+        }
+        return values;
+    }
+
+    // 정렬 집합에 추가 (이미 있으면 점수만 갱신)
+    public void addToSortedSet(String key, String member, double score) {
+        redisTemplate.opsForZSet().add(key, member, score);
+    }
+
+    public void removeFromSortedSet(String key, String member) {
+        redisTemplate.opsForZSet().remove(key, member);
+    }
+
+    // 점수 범위 삭제 (ZREMRANGEBYSCORE)
+    public void removeFromSortedSetByScore(String key, double min, double max) {
+        redisTemplate.opsForZSet().removeRangeByScore(key, min, max);
+    }
+
+    // 점수 범위 조회 (ZRANGEBYSCORE, 점수 오름차순)
+    public Set<String> getSortedSetRangeByScore(String key, double min, double max) {
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(key, min, max);
+        return members != null ? members : Set.of();
+    }
+
+    // 전체 멤버와 점수 (점수 오름차순)
+    public Map<String, Double> getSortedSetWithScores(String key) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                result.put(tuple.getValue(), tuple.getScore());
+            }
+        }
+        return result;
+    }
+
+    // 만료 시각 지정
+    public void expireAt(String key, Instant expireAt) {
+        redisTemplate.expireAt(key, expireAt);
+    }
+
+    // 여러 명령을 파이프라인 1회로 실행 (결과는 사용하지 않음)
+    public void executePipelined(Consumer<RedisConnection> commands) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept(connection);
+            return null;
+        });
+    }
+
+    // Lua 스크립트 실행 (서버에서 원자적으로 실행, 한 번의 라운드트립)
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        return redisTemplate.execute(script, keys, (Object[]) args);
+    }
 }
@@ -0,0 +1,19 @@
+package com.auction.back.global.utils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class DateTimeUtils {
+
+    /**
+     * Redis에 저장하는 시각 포맷 (밀리초까지 고정 길이)
+     * 고정 길이라서 Lua 스크립트에서 문자열 비교만으로 시각 선후를 판단할 수 있음
+     * LocalDateTime.parse() 로 그대로 다시 읽을 수 있음
+     */
+    private static final DateTimeFormatter REDIS_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    public static String toRedisString(LocalDateTime dateTime) {
+        return dateTime.format(REDIS_FORMATTER);
+    }
+}
@@ -0,0 +1,32 @@
+package com.auction.back.global.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class KeywordUtils {
+
+    /**
+     * 검색어/색인 대상 문자열을 단어로 분리 (소문자 + 글자/숫자 이외 문자로 분리)
+     * 키워드 색인과 DB LIKE 검색이 같은 단어 기준으로 일치 여부를 판단하도록 함께 사용
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        StringBuilder current = new StringBuilder();
+        text.toLowerCase(Locale.ROOT).codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                current.appendCodePoint(cp);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        });
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,20 @@
+-- 리스 획득/갱신 스크립트
+-- KEYS[1] = lease:{name}   (값 = 소유자|펜싱토큰)
+-- KEYS[2] = lease:fence    (전역 펜싱 토큰 카운터, 새로 획득할 때마다 증가)
+-- ARGV[1] = 소유자(노드 ID)
+-- ARGV[2] = 리스 유효시간 (ms)
+-- 반환: 펜싱 토큰 (다른 노드가 보유 중이면 0)
+
+local current = redis.call('GET', KEYS[1])
+if current then
+    local sep = string.find(current, '|', 1, true)
+    if string.sub(current, 1, sep - 1) == ARGV[1] then
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        return tonumber(string.sub(current, sep + 1))
+    end
+    return 0
+end
+
+local token = redis.call('INCR', KEYS[2])
+redis.call('SET', KEYS[1], ARGV[1] .. '|' .. token, 'PX', ARGV[2])
+return token
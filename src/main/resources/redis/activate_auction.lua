@@ -0,0 +1,24 @@
+-- 경매 활성화 스크립트 (시작 시 호출)
+-- 미리 적재된 상태(status = SCHEDULED)든 없든 시작 시점 DB 값(마감시각/시작가)으로 초기 상태를 한 번에 저장
+-- (적재 후 시작가 등이 수정되어도 예전 값으로 입찰이 시작되지 않도록, 적재 상태에는 입찰이 없으므로 덮어써도 안전)
+-- KEYS[1] = auction:{id}:live       (status, endTime, highestPrice, highestBidder 해시)
+-- KEYS[2] = auction:end-times       (진행중 경매 마감시각 정렬 집합)
+-- ARGV[1] = 마감 시각 (고정 길이 ISO 문자열)
+-- ARGV[2] = 시작가
+-- ARGV[3] = 해시 만료 시각 (epoch millis, 마감 + 유예)
+-- ARGV[4] = 마감 시각 (epoch millis, 마감시각 인덱스 점수)
+-- ARGV[5] = 경매 ID
+-- 반환: WARM (미리 적재됨) / COLD (새로 저장) / ACTIVE (이미 진행중, 변경 없음)
+
+local status = redis.call('HGET', KEYS[1], 'status')
+if status == 'ONGOING' then
+    return 'ACTIVE'
+end
+
+redis.call('HSET', KEYS[1], 'status', 'ONGOING', 'endTime', ARGV[1], 'highestPrice', ARGV[2], 'highestBidder', '')
+redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+redis.call('ZADD', KEYS[2], ARGV[4], ARGV[5])
+if status == 'SCHEDULED' then
+    return 'WARM'
+end
+return 'COLD'
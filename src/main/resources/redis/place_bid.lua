@@ -0,0 +1,84 @@
+-- 입찰 평가 스크립트 (상태/마감/최고가/포인트 검증 + 갱신 + 포인트 보류 + 마감 연장을 한 번에 원자적으로 처리)
+-- KEYS[1] = auction:{id}:live       (status, endTime, highestPrice, highestBidder 해시)
+-- KEYS[2] = user:{email}:point      (입찰자 잔액 캐시)
+-- KEYS[3] = user:{email}:holds      (입찰자 경매별 보류 포인트)
+-- KEYS[4] = auction:end-times       (진행중 경매 마감시각 정렬 집합)
+-- KEYS[5] = bid:dedup:{email}:{bidId} (선택, 클라이언트 입찰 ID 가 있을 때만 → 처리 결과 기록)
+-- ARGV[1] = 입찰 금액
+-- ARGV[2] = 입찰자 이메일
+-- ARGV[3] = 현재 시각 (고정 길이 ISO 문자열)
+-- ARGV[4] = 연장 기준 시각 (현재 + 3분)
+-- ARGV[5] = 연장 후 마감 시각 (현재 + 5분)
+-- ARGV[6] = 연장 시 해시 만료 시각 (epoch millis, 연장 후 마감 + 유예)
+-- ARGV[7] = 경매 ID
+-- ARGV[8] = 연장 후 마감 시각 (epoch millis, 마감시각 인덱스 점수)
+-- ARGV[9] = 입찰 ID 처리 결과 만료 (초, KEYS[5] 가 있을 때만)
+-- 반환: { 결과코드, 부가정보, 직전 최고입찰자, 직전 최고가 }
+--       같은 입찰 ID 로 이미 처리된 입찰이면 { 'DUPLICATE', 기록된 결과 } (평가/갱신 없음)
+
+-- 입찰 ID 처리 결과 기록 = "결과코드\n입찰 금액\n부가정보" (평가와 같은 스크립트 안이므로 처리중 상태 없음)
+-- NO_BALANCE 는 잔액 적재 후 같은 입찰을 다시 평가하므로 기록하지 않음
+local dedupKey = KEYS[5]
+local function finish(result)
+    if dedupKey and result[1] ~= 'NO_BALANCE' then
+        redis.call('SET', dedupKey, result[1] .. '\n' .. ARGV[1] .. '\n' .. result[2], 'EX', ARGV[9])
+    end
+    return result
+end
+
+if dedupKey then
+    local seen = redis.call('GET', dedupKey)
+    if seen then
+        return { 'DUPLICATE', seen }
+    end
+end
+
+local state = redis.call('HMGET', KEYS[1], 'status', 'endTime', 'highestPrice', 'highestBidder')
+local status = state[1]
+if status ~= 'ONGOING' then
+    return finish({ 'NOT_ONGOING', status or '' })
+end
+
+local endTime = state[2]
+if not endTime or ARGV[3] > endTime then
+    return finish({ 'CLOSED', '' })
+end
+
+local highestStr = state[3] or '0'
+local highest = tonumber(highestStr)
+local bidAmount = tonumber(ARGV[1])
+if bidAmount <= highest then
+    return finish({ 'TOO_LOW', tostring(highest) })
+end
+
+-- 가용 포인트 = 잔액 - 다른 경매에 보류된 포인트 (같은 경매 보류분은 이번 입찰로 대체)
+local balance = redis.call('GET', KEYS[2])
+if not balance then
+    return finish({ 'NO_BALANCE', '' })
+end
+local held = 0
+local holds = redis.call('HGETALL', KEYS[3])
+for i = 1, #holds, 2 do
+    if holds[i] ~= ARGV[7] then
+        held = held + tonumber(holds[i + 1])
+    end
+end
+if tonumber(balance) - held < bidAmount then
+    return finish({ 'INSUFFICIENT_POINT', '' })
+end
+
+local previousBidder = state[4] or ''
+
+redis.call('HSET', KEYS[1], 'highestPrice', ARGV[1], 'highestBidder', ARGV[2])
+redis.call('HSET', KEYS[3], ARGV[7], ARGV[1])
+
+-- 마감 3분 이하 남았으면 현재 + 5분으로 연장 (해시 TTL, 마감시각 인덱스도 함께 갱신)
+local newEndTime = ''
+if endTime <= ARGV[4] then
+    redis.call('HSET', KEYS[1], 'endTime', ARGV[5])
+    redis.call('PEXPIREAT', KEYS[1], ARGV[6])
+    redis.call('ZADD', KEYS[4], ARGV[8], ARGV[7])
+    newEndTime = ARGV[5]
+end
+
+return finish({ 'ACCEPTED', newEndTime, previousBidder, highestStr })
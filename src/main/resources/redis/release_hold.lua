@@ -0,0 +1,10 @@
+-- 경매 보류 포인트 해제 (상회 입찰 당한 경우)
+-- 보류 금액이 예상 금액과 같을 때만 삭제 → 그 사이 같은 경매에 다시 입찰해 생긴 새 보류는 유지
+-- KEYS[1] = user:{email}:holds
+-- ARGV[1] = 경매 ID
+-- ARGV[2] = 해제할 보류 금액
+local held = redis.call('HGET', KEYS[1], ARGV[1])
+if held and tonumber(held) == tonumber(ARGV[2]) then
+    return redis.call('HDEL', KEYS[1], ARGV[1])
+end
+return 0
@@ -0,0 +1,9 @@
+-- 리스 반납 (본인이 보유한 경우에만 삭제)
+-- KEYS[1] = lease:{name}
+-- ARGV[1] = 소유자(노드 ID)
+
+local current = redis.call('GET', KEYS[1])
+if current and string.sub(current, 1, string.len(ARGV[1]) + 1) == ARGV[1] .. '|' then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
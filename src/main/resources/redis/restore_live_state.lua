@@ -0,0 +1,48 @@
+-- 실시간 상태 복구 스크립트 (DB/입찰 이력으로 다시 만든 상태를 조건부 저장 + 보류 포인트 이전)
+-- 저장된 상태가 진행중이 아니거나 최고가가 없거나 더 낮을 때만 저장
+-- → 조회 이후 들어온 실시간 입찰(같거나 높은 최고가)을 덮어쓰지 않음
+-- 조회 이후 최고입찰자가 바뀌었으면 저장하지 않음 (다음 복구에서 다시 확인)
+-- 저장된 마감시각이 더 늦으면(입찰로 연장) 마감시각/만료/인덱스는 유지
+-- KEYS[1] = auction:{id}:live       (status, endTime, highestPrice, highestBidder 해시)
+-- KEYS[2] = auction:end-times       (진행중 경매 마감시각 정렬 집합)
+-- KEYS[3] = user:{email}:holds      (복구한 최고입찰자, ARGV[3] 가 있을 때만)
+-- KEYS[3|4] = user:{email}:holds    (이전 최고입찰자, ARGV[7] 이 있고 ARGV[3] 과 다를 때만)
+-- ARGV[1] = 마감 시각 (고정 길이 ISO 문자열)
+-- ARGV[2] = 최고가
+-- ARGV[3] = 최고입찰자 ('' = 없음)
+-- ARGV[4] = 해시 만료 시각 (epoch millis, 마감 + 유예)
+-- ARGV[5] = 마감 시각 (epoch millis, 마감시각 인덱스 점수)
+-- ARGV[6] = 경매 ID
+-- ARGV[7] = 조회 시점의 최고입찰자 ('' = 없음)
+-- 반환: 1 = 저장, 0 = 저장된 상태 유지
+
+local state = redis.call('HMGET', KEYS[1], 'status', 'endTime', 'highestPrice', 'highestBidder')
+local status = state[1]
+local endTime = state[2]
+local price = state[3]
+local bidder = state[4] or ''
+
+if status == 'ONGOING' and price and tonumber(price) >= tonumber(ARGV[2]) then
+    return 0
+end
+if bidder ~= ARGV[7] then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], 'status', 'ONGOING', 'highestPrice', ARGV[2], 'highestBidder', ARGV[3])
+if not (status == 'ONGOING' and endTime and endTime > ARGV[1]) then
+    redis.call('HSET', KEYS[1], 'endTime', ARGV[1])
+    redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+    redis.call('ZADD', KEYS[2], ARGV[5], ARGV[6])
+end
+
+-- 최고입찰자의 보류 = 최고가, 덮어쓴 (이력상 추월된) 이전 최고입찰자의 보류는 해제
+local previousKey = 3
+if ARGV[3] ~= '' then
+    redis.call('HSET', KEYS[3], ARGV[6], ARGV[2])
+    previousKey = 4
+end
+if bidder ~= '' and bidder ~= ARGV[3] then
+    redis.call('HDEL', KEYS[previousKey], ARGV[6])
+end
+return 1
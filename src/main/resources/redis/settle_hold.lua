@@ -0,0 +1,8 @@
+-- 낙찰 정산: 경매 보류 포인트를 소진하고 잔액 캐시 삭제 (한 번에 원자적으로)
+-- 잔액 값을 쓰지 않고 삭제 → 다음 입찰에서 커밋된 DB 잔액으로 다시 적재 (다른 정산/충전의 커밋 후 작업과 순서가 뒤바뀌어도 오래된 잔액이 남지 않음)
+-- KEYS[1] = user:{email}:point
+-- KEYS[2] = user:{email}:holds
+-- ARGV[1] = 경매 ID
+redis.call('HDEL', KEYS[2], ARGV[1])
+redis.call('DEL', KEYS[1])
+return 1
@@ -0,0 +1,14 @@
+-- 경매 미리 적재 스크립트 (시작 전 호출)
+-- 상태가 없을 때만 status = SCHEDULED 로 초기 상태 저장 (이미 적재/활성화된 상태는 덮어쓰지 않음)
+-- KEYS[1] = auction:{id}:live       (status, endTime, highestPrice, highestBidder 해시)
+-- ARGV[1] = 마감 시각 (고정 길이 ISO 문자열)
+-- ARGV[2] = 시작가
+-- ARGV[3] = 해시 만료 시각 (epoch millis, 마감 + 유예)
+-- 반환: 1 = 적재, 0 = 이미 있음
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'status', 'SCHEDULED', 'endTime', ARGV[1], 'highestPrice', ARGV[2], 'highestBidder', '')
+redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+return 1
@@ -0,0 +1,117 @@
+package com.auction.back.domain.auction.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidEngineTest {
+
+    private BidEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void 같은_경매_작업은_등록_순서대로_실행() throws Exception {
+        engine = new BidEngine(4, 10_000, 5_000);
+        List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            int seq = i;
+            futures.add(engine.submit(1L, () -> first.add(seq)));
+            futures.add(engine.submit(2L, () -> second.add(seq)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        List<Integer> expected = IntStream.range(0, 1_000).boxed().toList();
+        assertThat(first).isEqualTo(expected);
+        assertThat(second).isEqualTo(expected);
+    }
+
+    @Test
+    void 메일박스가_가득_차면_거절() throws Exception {
+        engine = new BidEngine(1, 1, 5_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> running = engine.submit(1L, () -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> queued = engine.submit(1L, () -> { });
+
+        assertThatThrownBy(() -> engine.submit(1L, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void 종료_시_남은_작업은_처리하고_이후_등록은_거절() throws Exception {
+        engine = new BidEngine(1, 100, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> done = Collections.synchronizedList(new ArrayList<>());
+
+        engine.submit(1L, () -> await(release));
+        List<CompletableFuture<Void>> queued = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int seq = i;
+            queued.add(engine.submit(1L, () -> done.add(seq)));
+        }
+
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(engine::shutdown);
+        release.countDown();
+        shutdown.get(5, TimeUnit.SECONDS);
+
+        assertThat(queued).allMatch(f -> f.isDone() && !f.isCompletedExceptionally());
+        assertThat(done).hasSize(10);
+        assertThatThrownBy(() -> engine.submit(1L, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void 종료_대기_시간_안에_못_끝낸_작업은_실패로_완료() throws Exception {
+        engine = new BidEngine(1, 100, 50);
+        CountDownLatch release = new CountDownLatch(1);
+
+        engine.submit(1L, () -> await(release));
+        CompletableFuture<Void> queued = engine.submit(1L, () -> { });
+
+        engine.shutdown();
+        release.countDown();
+
+        assertThat(queued).isCompletedExceptionally();
+        assertThatThrownBy(queued::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.auction.back.domain.auction.engine;
+
+import com.auction.back.domain.auction.service.live.AuctionLiveStateStore;
+import com.auction.back.support.LuaRedisStandIn;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProxyBidBookSweeperTest {
+
+    @Test
+    void 실시간_상태가_없거나_마감이_지난_경매의_장부만_정리() {
+        LuaRedisStandIn redis = new LuaRedisStandIn();
+        AuctionLiveStateStore liveStateStore = new AuctionLiveStateStore(redis);
+        ProxyBidBook book = new ProxyBidBook(100);
+        liveStateStore.init(1L, LocalDateTime.now().plusMinutes(30), 1000); // 진행중
+        liveStateStore.init(2L, LocalDateTime.now().minusMinutes(1), 1000); // 마감 지남 (다른 노드에서 마감 처리 중)
+        // 3 = 다른 노드에서 정산 후 실시간 상태 삭제됨
+        book.register(1L, "a@exam.com", 5000);
+        book.register(2L, "a@exam.com", 5000);
+        book.register(3L, "a@exam.com", 5000);
+
+        new ProxyBidBookSweeper(book, liveStateStore).sweep();
+
+        assertThat(book.auctionIds()).containsExactly(1L);
+    }
+}
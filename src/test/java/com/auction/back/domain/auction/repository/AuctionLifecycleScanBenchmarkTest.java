@@ -0,0 +1,141 @@
+package com.auction.back.domain.auction.repository;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시작/마감 처리 스캔 벤치마크 (H2, 기본 100만 건)
+ * 일반 test 에서는 제외, ./gradlew benchmark 로 실행 (-Dbenchmark.rows=N 으로 건수 조절)
+ * 엔티티 조회(findByStatus) vs 경량 조회(findLifecycleByStatus) 소요시간 출력 + 복합 인덱스 사용 여부 확인
+ * (소요시간은 환경마다 달라 출력만, 검증은 리포지토리가 실제로 만든 SQL 의 실행계획으로)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "decorator.datasource.p6spy.enable-logging=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.auction.back.domain.auction.repository.AuctionLifecycleScanBenchmarkTest$SqlCapture"
+})
+@Import(QueryDslConfig.class)
+class AuctionLifecycleScanBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int BATCH = 10_000;
+    private static final int ITERATIONS = 5;
+    // 진행중/예정 경매는 전체의 일부 (나머지는 종료)
+    private static final int ONGOING_EVERY = 100;
+    private static final int SCHEDULED_EVERY = 101;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        String description = "설명".repeat(200);
+        LocalDateTime base = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < ROWS; i++) {
+            AuctionStatus status = i % ONGOING_EVERY == 0 ? AuctionStatus.ONGOING
+                    : i % SCHEDULED_EVERY == 0 ? AuctionStatus.SCHEDULED
+                    : AuctionStatus.ENDED;
+            rows.add(new Object[]{
+                    "경매 " + i, 1000, Timestamp.valueOf(base.plusMinutes(i % 1440)),
+                    Timestamp.valueOf(base.plusMinutes(i % 1440 + 60)), description, status.name()
+            });
+            if (rows.size() == BATCH) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            insert(rows);
+        }
+    }
+
+    @Test
+    void 경량_조회와_복합_인덱스() {
+        long entityMillis = measure(() -> {
+            int size = auctionRepository.findByStatus(AuctionStatus.ONGOING).size();
+            entityManager.clear();
+            return size;
+        });
+        long projectionMillis = measure(() -> auctionRepository.findLifecycleByStatus(AuctionStatus.ONGOING).size());
+
+        System.out.printf("[benchmark] rows=%d, ongoing=%d, findByStatus=%dms, findLifecycleByStatus=%dms%n",
+                ROWS, auctionRepository.findLifecycleByStatus(AuctionStatus.ONGOING).size(), entityMillis, projectionMillis);
+
+        // 시작/마감 처리 스캔: status 로 시작하는 복합 인덱스 범위 조회 (전체 스캔 아님)
+        String scanPlan = explain(() -> auctionRepository.findLifecycleByStatus(AuctionStatus.ONGOING),
+                AuctionStatus.ONGOING.name());
+        assertThat(scanPlan).contains("IDX_AUCTION_STATUS_").doesNotContain("TABLESCAN");
+
+        // 파티션 일괄 시작: (status, start_time) 인덱스 범위 조회
+        LocalDateTime now = LocalDateTime.now();
+        String startPlan = explain(() -> auctionRepository.lockDueToStart(AuctionStatus.SCHEDULED, now, 4, 0),
+                AuctionStatus.SCHEDULED.name(), Timestamp.valueOf(now), 4, 0);
+        assertThat(startPlan).contains("IDX_AUCTION_STATUS_START_TIME").doesNotContain("TABLESCAN");
+    }
+
+    // 리포지토리 메서드가 실행한 마지막 SQL 의 실행계획 (파라미터는 SQL 순서대로)
+    private String explain(Runnable query, Object... params) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        List<String> statements = SqlCapture.STATEMENTS;
+        assertThat(statements).isNotEmpty();
+        String sql = statements.get(statements.size() - 1);
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params));
+        System.out.printf("[benchmark] %s%n%s%n", sql, plan);
+        return plan.toUpperCase();
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO auction (title, view_count, start_price, start_time, end_time, description, status) " +
+                        "VALUES (?, 0, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // 워밍업 1회 후 평균 (ms)
+    private long measure(Supplier<Integer> scan) {
+        scan.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            scan.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000_000;
+    }
+}
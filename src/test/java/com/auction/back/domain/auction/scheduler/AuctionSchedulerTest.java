@@ -0,0 +1,57 @@
+package com.auction.back.domain.auction.scheduler;
+
+import com.auction.back.domain.auction.service.scheduled.AuctionDeadline;
+import com.auction.back.domain.auction.service.scheduled.AuctionScheduledService;
+import com.auction.back.global.cluster.ClusterMembership;
+import com.auction.back.global.cluster.ClusterNode;
+import com.auction.back.global.cluster.LeaseService;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuctionSchedulerTest {
+
+    @Test
+    void 대기_중_파티션을_인계받으면_최대_대기시간을_기다리지_않고_대기열_재적재() throws InterruptedException {
+        LeaseService leaseService = mock(LeaseService.class);
+        ClusterMembership membership = mock(ClusterMembership.class);
+        AuctionScheduledService scheduledService = mock(AuctionScheduledService.class);
+        when(leaseService.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(1L);
+        // node-b 가 살아있는 동안 node-a 는 파티션 0 만 소유, 이탈하면 파티션 1 까지 인계
+        when(membership.heartbeat(anyString(), anyLong()))
+                .thenReturn(List.of("node-a", "node-b"))
+                .thenReturn(List.of("node-a"));
+        // 경매 1 은 파티션 1 (처음에는 다른 노드 담당)
+        when(scheduledService.loadDeadlines())
+                .thenReturn(List.of(AuctionDeadline.end(1L, LocalDateTime.now().plusMinutes(10))));
+
+        AuctionPartitionManager partitionManager =
+                new AuctionPartitionManager(leaseService, membership, new ClusterNode("node-a"), 2, 5000, 1000);
+        AuctionScheduler scheduler =
+                new AuctionScheduler(scheduledService, partitionManager, 1000, 5, 1, 10, true, 0);
+        partitionManager.rebalance();
+        scheduler.start();
+        try {
+            verify(scheduledService, timeout(2000)).loadDeadlines();
+            assertThat(scheduler.pendingCount()).isZero();
+            Thread.sleep(200); // 빈 대기열로 대기 상태 진입
+
+            partitionManager.rebalance();
+
+            verify(scheduledService, timeout(2000).times(2)).loadDeadlines();
+            assertThat(scheduler.pendingCount()).isEqualTo(1);
+        } finally {
+            scheduler.stop();
+        }
+    }
+}
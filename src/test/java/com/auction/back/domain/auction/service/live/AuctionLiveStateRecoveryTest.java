@@ -0,0 +1,152 @@
+package com.auction.back.domain.auction.service.live;
+
+import com.auction.back.domain.auction.dto.response.LiveStateRecoveryDto;
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionLifecycleView;
+import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.bid.entity.Bid;
+import com.auction.back.domain.bid.repository.BidRepository;
+import com.auction.back.domain.user.service.point.PointRedisKeys;
+import com.auction.back.global.cluster.ClusterNode;
+import com.auction.back.global.cluster.LeaseService;
+import com.auction.back.global.utils.DateTimeUtils;
+import com.auction.back.support.LuaRedisStandIn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuctionLiveStateRecoveryTest {
+
+    private static final LocalDateTime END = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final LocalDateTime endTime = LocalDateTime.now().plusHours(1).withNano(0);
+    private final AuctionLifecycleView auction =
+            new AuctionLifecycleView(1L, AuctionStatus.ONGOING, endTime.minusHours(2), endTime, 1000);
+
+    private LuaRedisStandIn redis;
+    private AuctionLiveStateStore liveStateStore;
+    private AuctionRepository auctionRepository;
+    private BidRepository bidRepository;
+    private LeaseService leaseService;
+    private AuctionLiveStateRecovery recovery;
+
+    @BeforeEach
+    void setUp() {
+        redis = new LuaRedisStandIn();
+        liveStateStore = new AuctionLiveStateStore(redis);
+        auctionRepository = mock(AuctionRepository.class);
+        bidRepository = mock(BidRepository.class);
+        leaseService = mock(LeaseService.class);
+        when(leaseService.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(1L);
+        when(auctionRepository.findLifecycleByStatus(AuctionStatus.ONGOING)).thenReturn(List.of(auction));
+        recovery = new AuctionLiveStateRecovery(auctionRepository, bidRepository, liveStateStore,
+                leaseService, new ClusterNode("node-a"), false, 60_000, 500, 2);
+    }
+
+    @Test
+    void 마감_3분_이내_입찰마다_연장을_다시_적용() {
+        List<LocalDateTime> bidTimes = List.of(
+                END.minusMinutes(10),       // 연장 없음
+                END.minusMinutes(2),        // → 12:03
+                END.plusMinutes(1),         // 12:03 의 3분 이내 → 12:06
+                END.plusMinutes(5).plusSeconds(30)); // 12:06 의 3분 이내 → 12:10:30
+
+        assertThat(AuctionLiveStateRecovery.replayEndTime(END, bidTimes))
+                .isEqualTo(END.plusMinutes(10).plusSeconds(30));
+    }
+
+    @Test
+    void 입찰이_없거나_연장_구간_밖이면_원래_마감() {
+        assertThat(AuctionLiveStateRecovery.replayEndTime(END, List.of())).isEqualTo(END);
+        assertThat(AuctionLiveStateRecovery.replayEndTime(END, List.of(END.minusMinutes(4)))).isEqualTo(END);
+    }
+
+    @Test
+    void 상태가_없으면_DB와_최고_입찰로_다시_만들고_보류_복구() {
+        when(bidRepository.findWinningBids(any())).thenReturn(List.of(bid("a@exam.com", 5000)));
+
+        LiveStateRecoveryDto dto = recovery.recoverAll();
+
+        assertThat(dto.getRebuilt()).isEqualTo(1);
+        assertThat(liveStateStore.get(1L)).isEqualTo(new AuctionLiveState(
+                "ONGOING", DateTimeUtils.toRedisString(endTime), "5000", "a@exam.com"));
+        assertThat(liveStateStore.getEndTimes()).containsEntry(1L, endTime);
+        assertThat(redis.getHash(PointRedisKeys.holdsKey("a@exam.com"))).containsEntry("1", "5000");
+        verify(leaseService).release(anyString(), anyString());
+    }
+
+    @Test
+    void 최고가가_이력보다_낮으면_바로잡고_추월된_입찰자_보류_해제() {
+        liveStateStore.init(1L, endTime, 1000);
+        redis.setHash(AuctionLiveStateStore.key(1L), Map.of("highestPrice", "3000", "highestBidder", "b@exam.com"));
+        redis.setHash(PointRedisKeys.holdsKey("b@exam.com"), Map.of("1", "3000"));
+        when(bidRepository.findWinningBids(any())).thenReturn(List.of(bid("a@exam.com", 5000)));
+
+        LiveStateRecoveryDto dto = recovery.recoverAll();
+
+        assertThat(dto.getRepaired()).isEqualTo(1);
+        assertThat(liveStateStore.get(1L).highestPrice()).isEqualTo("5000");
+        assertThat(liveStateStore.get(1L).highestBidder()).isEqualTo("a@exam.com");
+        assertThat(redis.getHash(PointRedisKeys.holdsKey("a@exam.com"))).containsEntry("1", "5000");
+        assertThat(redis.getHash(PointRedisKeys.holdsKey("b@exam.com"))).doesNotContainKey("1");
+    }
+
+    @Test
+    void 조회_이후_들어온_더_높은_실시간_입찰은_덮어쓰지_않음() {
+        liveStateStore.init(1L, endTime, 1000);
+        // 조회 시점에는 입찰자 없음 → 복구 저장 전에 c 가 6000 으로 입찰
+        redis.setHash(AuctionLiveStateStore.key(1L), Map.of("highestPrice", "6000", "highestBidder", "c@exam.com"));
+        AuctionLiveState rebuilt = new AuctionLiveState("ONGOING", DateTimeUtils.toRedisString(endTime), "5000", "a@exam.com");
+
+        liveStateStore.restoreAll(Map.of(1L, rebuilt), Map.of());
+
+        assertThat(liveStateStore.get(1L).highestPrice()).isEqualTo("6000");
+        assertThat(liveStateStore.get(1L).highestBidder()).isEqualTo("c@exam.com");
+        assertThat(redis.getHash(PointRedisKeys.holdsKey("a@exam.com"))).isEmpty();
+    }
+
+    @Test
+    void 마감시각_인덱스만_없으면_인덱스만_다시_등록() {
+        redis.setHash(AuctionLiveStateStore.key(1L), Map.of(
+                "status", "ONGOING",
+                "endTime", DateTimeUtils.toRedisString(endTime),
+                "highestPrice", "1000",
+                "highestBidder", ""));
+
+        LiveStateRecoveryDto dto = recovery.recoverAll();
+
+        assertThat(dto.getReindexed()).isEqualTo(1);
+        assertThat(dto.getRebuilt() + dto.getRepaired()).isZero();
+        assertThat(liveStateStore.getEndTimes()).containsEntry(1L, endTime);
+    }
+
+    @Test
+    void 다른_노드가_리스를_보유_중이면_전체_복구_생략() {
+        when(leaseService.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(0L);
+
+        assertThatThrownBy(() -> recovery.recoverAll()).isInstanceOf(IllegalStateException.class);
+        verify(auctionRepository, never()).findLifecycleByStatus(any());
+    }
+
+    private static Bid bid(String email, long amount) {
+        return Bid.builder()
+                .auctionId(1L)
+                .bidderEmail(email)
+                .amount(amount)
+                .bidTime(LocalDateTime.now().minusMinutes(30))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.auction.back.domain.auction.service.scheduled;
+
+import com.auction.back.domain.auction.entity.Auction;
+import com.auction.back.domain.auction.entity.AuctionSettlement;
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.enums.SettlementStatus;
+import com.auction.back.domain.auction.repository.AuctionDeadLetterRepository;
+import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.auction.repository.AuctionSettlementRepository;
+import com.auction.back.domain.auction.service.live.AuctionLiveState;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateRecovery;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateStore;
+import com.auction.back.domain.auction.service.search.AuctionFacetIndex;
+import com.auction.back.domain.user.entity.User;
+import com.auction.back.domain.user.enums.UserRole;
+import com.auction.back.domain.user.enums.UserStatus;
+import com.auction.back.domain.user.repository.UserRepository;
+import com.auction.back.domain.user.service.query.UserQueryService;
+import com.auction.back.global.config.QueryDslConfig;
+import com.auction.back.global.enums.Gender;
+import com.auction.back.global.utils.DateTimeUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import(QueryDslConfig.class)
+class AuctionScheduledServiceTest {
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private AuctionSettlementRepository settlementRepository;
+
+    @Autowired
+    private AuctionDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuctionLiveStateStore liveStateStore;
+    private UserQueryService userQueryService;
+    private AuctionScheduledService service;
+
+    @BeforeEach
+    void setUp() {
+        liveStateStore = mock(AuctionLiveStateStore.class);
+        userQueryService = mock(UserQueryService.class);
+        service = new AuctionScheduledService(auctionRepository, liveStateStore,
+                mock(AuctionLiveStateRecovery.class), userQueryService, settlementRepository,
+                deadLetterRepository, jdbcTemplate, mock(AuctionFacetIndex.class));
+    }
+
+    @Test
+    void 입찰_없는_경매_일괄_유찰_시_바로_처리되는_정산_저장() {
+        LocalDateTime endTime = LocalDateTime.now().minusMinutes(1);
+        Long first = insertOngoing(endTime);
+        Long second = insertOngoing(endTime);
+
+        AuctionLiveState noBid = new AuctionLiveState("ONGOING", endTime.toString(), "1000", "");
+        when(liveStateStore.getAll(anyList())).thenReturn(Map.of(first, noBid, second, noBid));
+
+        List<Long> remaining = service.closeNoBidAuctions(List.of(first, second), 1L);
+
+        assertThat(remaining).isEmpty();
+        assertThat(auctionRepository.findLifecycleByStatus(AuctionStatus.ENDED)).hasSize(2);
+        // 정산 디스패처 조회 조건(next_attempt_at <= now)에 바로 걸려야 함
+        List<AuctionSettlement> due = settlementRepository.findDue(SettlementStatus.PENDING,
+                LocalDateTime.now().plusSeconds(1), 1, List.of(0), PageRequest.of(0, 10));
+        assertThat(due).extracting(AuctionSettlement::getAuctionId).containsExactlyInAnyOrder(first, second);
+        assertThat(due).allMatch(s -> !s.hasWinner() && s.getAmount() == 0L);
+        assertThat(auctionRepository.findAllById(List.of(first, second)))
+                .allMatch(a -> a.getFinalEndTime() != null && a.getFinalEndTime().equals(a.getEndTime()));
+    }
+
+    @Test
+    void 낙찰_시_연장된_마감시각은_finalEndTime_에_기록하고_endTime_은_유지() {
+        LocalDateTime endTime = LocalDateTime.now().minusMinutes(10).withNano(0);
+        LocalDateTime extendedEndTime = endTime.plusMinutes(5);
+        Long auctionId = insertOngoing(endTime);
+        User winner = userRepository.save(User.builder()
+                .email("winner@exam.com").password("pw").name("낙찰자").nickname("winner")
+                .gender(Gender.NONE).status(UserStatus.ACTIVE).role(UserRole.USER).pointBalance(10_000)
+                .build());
+        when(userQueryService.findByEmail("winner@exam.com")).thenReturn(winner);
+        when(liveStateStore.get(eq(auctionId))).thenReturn(new AuctionLiveState(
+                "ONGOING", DateTimeUtils.toRedisString(extendedEndTime), "5000", "winner@exam.com"));
+
+        assertThat(service.endAuction(auctionId, 1L)).isNull();
+
+        Auction auction = auctionRepository.findById(auctionId).orElseThrow();
+        assertThat(auction.getStatus()).isEqualTo(AuctionStatus.ENDED);
+        assertThat(auction.getEndTime()).isEqualTo(endTime);
+        assertThat(auction.getFinalEndTime()).isEqualTo(extendedEndTime);
+        assertThat(auction.getWinner().getEmail()).isEqualTo("winner@exam.com");
+        assertThat(auction.getFinalPrice()).isEqualTo(5000L);
+    }
+
+    private Long insertOngoing(LocalDateTime endTime) {
+        jdbcTemplate.update(
+                "INSERT INTO auction (title, view_count, start_price, start_time, end_time, status) " +
+                        "VALUES ('경매', 0, 1000, ?, ?, 'ONGOING')",
+                Timestamp.valueOf(endTime.minusHours(1)), Timestamp.valueOf(endTime));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM auction", Long.class);
+    }
+}
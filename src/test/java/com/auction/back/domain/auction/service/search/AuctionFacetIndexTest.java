@@ -0,0 +1,114 @@
+package com.auction.back.domain.auction.service.search;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionFacetView;
+import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.global.enums.Gender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuctionFacetIndexTest {
+
+    private AuctionRepository auctionRepository;
+    private AuctionFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        when(auctionRepository.findFacetsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(
+                        new AuctionFacetView(1L, AuctionStatus.ONGOING, "레오파드게코", Gender.MALE, "소형", "서울"),
+                        new AuctionFacetView(2L, AuctionStatus.ONGOING, "레오파드게코", Gender.FEMALE, "소형", "부산")));
+        when(auctionRepository.findFacetsAfter(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(
+                        new AuctionFacetView(3L, AuctionStatus.SCHEDULED, "볼파이톤", Gender.FEMALE, "중형", "서울"),
+                        new AuctionFacetView(4L, AuctionStatus.ONGOING, " 볼파이톤 ", Gender.FEMALE, null, "서울")));
+        when(auctionRepository.findFacetsAfter(eq(4L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        index = new AuctionFacetIndex(auctionRepository, true, 2, 10_000, 10_000);
+    }
+
+    @Test
+    void 조건은_AND_건수는_해당_조건을_뺀_나머지_기준() {
+        assertThat(index.filter(Map.of(AuctionFacet.GENDER, "FEMALE"))).isNull();
+        index.load();
+
+        Map<AuctionFacet, String> filters = Map.of(
+                AuctionFacet.GENDER, "FEMALE",
+                AuctionFacet.SELLER_LOCATION, "서울");
+        assertThat(AuctionFacetIndex.ids(index.filter(filters), null, 0, 10)).containsExactly(4L, 3L);
+        assertThat(index.filter(Map.of(AuctionFacet.SPECIES, "없는품종")).isEmpty()).isTrue();
+
+        Map<String, Map<String, Integer>> counts = index.count(filters, null);
+        // 품종 건수 = 성별 FEMALE + 서울 기준 (앞뒤 공백 무시)
+        assertThat(counts.get("species")).containsExactly(Map.entry("볼파이톤", 2));
+        // 성별 건수 = 성별 조건을 뺀 서울 기준
+        assertThat(counts.get("gender")).containsEntry("FEMALE", 2).containsEntry("MALE", 1);
+        assertThat(counts.get("status")).containsEntry("ONGOING", 1).containsEntry("SCHEDULED", 1);
+        // 추가 교집합 (키워드 결과 등)
+        assertThat(index.count(filters, AuctionFacetIndex.toBits(List.of(3L))).get("sellerLocation"))
+                .containsExactly(Map.entry("서울", 1));
+    }
+
+    @Test
+    void 커서와_offset_은_id_역순() {
+        index.load();
+        var matches = index.filter(Map.of(AuctionFacet.SELLER_LOCATION, "서울"));
+
+        assertThat(AuctionFacetIndex.ids(matches, null, 1, 10)).containsExactly(3L, 1L);
+        assertThat(AuctionFacetIndex.ids(matches, 4L, 0, 1)).containsExactly(3L);
+        assertThat(AuctionFacetIndex.ids(matches, 1L, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void 상태_전환과_다른_노드_전환_반영() {
+        index.load();
+
+        index.updateStatus(List.of(3L), AuctionStatus.ONGOING);
+        assertThat(AuctionFacetIndex.ids(index.filter(Map.of(AuctionFacet.STATUS, "ONGOING")), null, 0, 10))
+                .containsExactly(4L, 3L, 2L, 1L);
+
+        // 다른 노드에서 1 마감, 2 취소, 3 품종 수정, 5 새로 등록 → 변경분만 다시 읽어 반영
+        when(auctionRepository.findFacetsChangedSince(any(LocalDateTime.class))).thenReturn(List.of(
+                new AuctionFacetView(1L, AuctionStatus.ENDED, "레오파드게코", Gender.MALE, "소형", "서울"),
+                new AuctionFacetView(2L, AuctionStatus.CANCELED, "레오파드게코", Gender.FEMALE, "소형", "부산"),
+                new AuctionFacetView(3L, AuctionStatus.ONGOING, "크레스티드게코", Gender.FEMALE, "중형", "서울"),
+                new AuctionFacetView(5L, AuctionStatus.SCHEDULED, "볼파이톤", Gender.MALE, "대형", "대구")));
+        index.refresh();
+
+        Map<String, Map<String, Integer>> counts = index.count(Map.of(), null);
+        assertThat(counts.get("status"))
+                .containsEntry("ONGOING", 2).containsEntry("ENDED", 1).containsEntry("CANCELED", 1)
+                .containsEntry("SCHEDULED", 1);
+        assertThat(counts.get("species"))
+                .containsEntry("볼파이톤", 2).containsEntry("크레스티드게코", 1).containsEntry("레오파드게코", 2);
+        assertThat(AuctionFacetIndex.ids(index.filter(Map.of(AuctionFacet.SELLER_LOCATION, "대구")), null, 0, 10))
+                .containsExactly(5L);
+    }
+
+    @Test
+    void 동기화가_오래_실패하면_DB_검색으로() throws InterruptedException {
+        index = new AuctionFacetIndex(auctionRepository, true, 2, 0, 0);
+        index.load();
+        when(auctionRepository.findFacetsChangedSince(any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("db down"));
+
+        Thread.sleep(5);
+        index.refresh();
+
+        assertThat(index.filter(Map.of(AuctionFacet.STATUS, "ONGOING"))).isNull();
+        assertThat(index.count(Map.of(), null)).isNull();
+    }
+}
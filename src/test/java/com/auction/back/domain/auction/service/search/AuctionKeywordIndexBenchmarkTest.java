@@ -0,0 +1,72 @@
+package com.auction.back.domain.auction.service.search;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.auction.repository.AuctionTextView;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 키워드 색인 벤치마크 (기본 100만 건, DB 없이 메모리 데이터로 적재)
+ * 일반 test 에서는 제외, ./gradlew benchmark 로 실행 (-Dbenchmark.rows=N 으로 건수 조절)
+ */
+@Tag("benchmark")
+class AuctionKeywordIndexBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int BATCH = 10_000;
+    private static final String[] SPECIES = {
+            "레오파드게코", "크레스티드게코", "볼파이톤", "콘스네이크", "비어디드래곤", "육지거북", "팩맨개구리", "블루텅스킨크"};
+    private static final String[] WORDS = {
+            "분양", "온순한", "개체", "먹이", "반응", "좋음", "모프", "해칭", "성체", "아성체", "암컷", "수컷", "직거래", "택배"};
+
+    @Test
+    void 백만건_검색() {
+        Random random = new Random(42);
+        AuctionRepository auctionRepository = mock(AuctionRepository.class);
+        when(auctionRepository.findTextAfter(anyLong(), eq(AuctionStatus.CANCELED), any(Pageable.class)))
+                .thenAnswer(inv -> {
+                    long afterId = inv.getArgument(0);
+                    List<AuctionTextView> batch = new ArrayList<>(BATCH);
+                    for (long id = afterId + 1; id <= Math.min(afterId + BATCH, ROWS); id++) {
+                        String species = SPECIES[random.nextInt(SPECIES.length)];
+                        batch.add(new AuctionTextView(id,
+                                species + " " + WORDS[random.nextInt(WORDS.length)] + " " + id % 1000,
+                                WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                                        + " " + WORDS[random.nextInt(WORDS.length)],
+                                species));
+                    }
+                    return batch;
+                });
+        AuctionKeywordIndex index = new AuctionKeywordIndex(auctionRepository, true, BATCH, 500, 10_000, Long.MAX_VALUE);
+
+        long loadStart = System.nanoTime();
+        index.load();
+        System.out.printf("[keyword-index] rows=%d, load=%dms%n", ROWS, (System.nanoTime() - loadStart) / 1_000_000);
+
+        for (String keyword : List.of("볼파이톤", "레오파드 수컷", "크레스티드게코 해칭 택배", "아성체")) {
+            index.search(keyword, null, 0, 20); // 워밍업
+            long start = System.nanoTime();
+            int iterations = 20;
+            AuctionKeywordIndex.KeywordPage result = null;
+            for (int i = 0; i < iterations; i++) {
+                result = index.search(keyword, null, 0, 20);
+            }
+            double avgMillis = (System.nanoTime() - start) / 1_000_000.0 / iterations;
+            System.out.printf("[keyword-index] keyword=%s, results=%d, avg=%.2fms%n", keyword, result.total(), avgMillis);
+            assertThat(result.ids()).isNotEmpty();
+        }
+    }
+}
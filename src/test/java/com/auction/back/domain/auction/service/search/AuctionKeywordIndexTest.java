@@ -0,0 +1,114 @@
+package com.auction.back.domain.auction.service.search;
+
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.auction.repository.AuctionTextView;
+import com.auction.back.domain.auction.service.search.AuctionKeywordIndex.KeywordPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuctionKeywordIndexTest {
+
+    private AuctionRepository auctionRepository;
+    private AuctionKeywordIndex index;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        when(auctionRepository.findTextAfter(eq(0L), eq(AuctionStatus.CANCELED), any(Pageable.class)))
+                .thenReturn(List.of(
+                        new AuctionTextView(1L, "레오파드 게코 분양", "온순한 개체입니다", "레오파드게코"),
+                        new AuctionTextView(2L, "크레스티드 게코", "레오파드 게코와 합사 불가", "크레스티드게코"),
+                        new AuctionTextView(3L, "볼파이톤 분양", "먹이 반응 좋음", "볼파이톤")));
+        when(auctionRepository.findTextAfter(eq(3L), eq(AuctionStatus.CANCELED), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        index = new AuctionKeywordIndex(auctionRepository, true, 2, 500, 10_000, 60_000);
+    }
+
+    @Test
+    void 적재_전에는_null_반환_DB_검색으로_대체() {
+        assertThat(index.search("게코", null, 0, 10)).isNull();
+        index.load();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    void 한글_2gram_검색은_제목_일치를_설명_일치보다_우선() {
+        index.load();
+
+        // 1 = 제목+품종, 2 = 설명에만 "레오파드"
+        assertThat(ids("레오파드")).containsExactly(1L, 2L);
+        // 모든 gram 을 포함해야 결과 (AND)
+        assertThat(ids("게코 분양")).containsExactly(1L);
+        // 띄어쓰기 없는 품종명도 일치
+        assertThat(ids("볼파")).containsExactly(3L);
+        assertThat(ids("없는검색어")).isEmpty();
+        // 한 글자 검색어는 색인으로 처리할 수 없음
+        assertThat(index.search("게", null, 0, 10)).isNull();
+    }
+
+    @Test
+    void 수정은_기존_색인_교체_취소는_제거() {
+        index.load();
+
+        index.index(new AuctionTextView(3L, "콘스네이크 분양", null, "콘스네이크"));
+        assertThat(ids("볼파이톤")).isEmpty();
+        assertThat(ids("분양")).containsExactly(3L, 1L);
+
+        index.remove(1L);
+        assertThat(ids("분양")).containsExactly(3L);
+        assertThat(ids("레오파드")).containsExactly(2L);
+    }
+
+    @Test
+    void 조건은_순위_전에_적용하고_페이지만_반환_전체_건수는_조건_적용_후_일치_건수() {
+        index.load();
+        BitSet onlySecond = new BitSet();
+        onlySecond.set(2);
+
+        KeywordPage restricted = index.search("게코", onlySecond, 0, 10);
+        assertThat(restricted.ids()).containsExactly(2L);
+        assertThat(restricted.total()).isEqualTo(1);
+
+        // 동점(제목 "분양") → 최신 우선: 3, 1 → 두 번째 페이지
+        KeywordPage secondPage = index.search("분양", null, 1, 1);
+        assertThat(secondPage.ids()).containsExactly(1L);
+        assertThat(secondPage.total()).isEqualTo(2);
+
+        // 커서 페이징은 id 역순
+        assertThat(index.searchBefore("게코", null, null, 10)).containsExactly(2L, 1L);
+        assertThat(index.searchBefore("게코", null, 2L, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void 다른_노드의_등록_취소를_동기화하고_동기화가_늦어지면_null_반환() throws InterruptedException {
+        index = new AuctionKeywordIndex(auctionRepository, true, 2, 500, 10_000, 200);
+        index.load();
+        when(auctionRepository.findTextChangedSince(any(LocalDateTime.class), eq(AuctionStatus.CANCELED)))
+                .thenReturn(List.of(new AuctionTextView(4L, "콘스네이크 분양", null, "콘스네이크")));
+        when(auctionRepository.findIdsChangedSince(any(LocalDateTime.class), eq(AuctionStatus.CANCELED)))
+                .thenReturn(List.of(1L));
+
+        Thread.sleep(300);
+        assertThat(index.search("분양", null, 0, 10)).isNull();
+
+        index.refresh();
+        assertThat(ids("분양")).containsExactly(4L, 3L);
+    }
+
+    private List<Long> ids(String keyword) {
+        return index.search(keyword, null, 0, 100).ids();
+    }
+}
@@ -0,0 +1,323 @@
+package com.auction.back.domain.auction.service.ws;
+
+import com.auction.back.domain.auction.dto.ws.BidResultDto;
+import com.auction.back.domain.auction.engine.ProxyBidBook;
+import com.auction.back.domain.auction.entity.Auction;
+import com.auction.back.domain.auction.enums.AuctionStatus;
+import com.auction.back.domain.auction.repository.AuctionLifecycleView;
+import com.auction.back.domain.auction.repository.AuctionRepository;
+import com.auction.back.domain.auction.scheduler.AuctionScheduler;
+import com.auction.back.domain.auction.service.live.AuctionLiveState;
+import com.auction.back.domain.auction.service.live.AuctionLiveStateStore;
+import com.auction.back.domain.bid.service.history.BidHistoryBuffer;
+import com.auction.back.domain.user.entity.User;
+import com.auction.back.domain.user.repository.UserRepository;
+import com.auction.back.domain.user.service.point.PointHoldServiceImpl;
+import com.auction.back.domain.user.service.point.PointRedisKeys;
+import com.auction.back.support.LuaRedisStandIn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuctionWebSocketServiceImplTest {
+
+    private static final long AUCTION_ID = 1L;
+
+    private LuaRedisStandIn redis;
+    private AuctionLiveStateStore liveStateStore;
+    private UserRepository userRepository;
+    private BidHistoryBuffer bidHistoryBuffer;
+    private AuctionWebSocketServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        redis = new LuaRedisStandIn();
+        liveStateStore = new AuctionLiveStateStore(redis);
+        userRepository = mock(UserRepository.class);
+        bidHistoryBuffer = new BidHistoryBuffer(100_000);
+        when(userRepository.findByEmail(anyString()))
+                .thenAnswer(inv -> Optional.of(User.builder()
+                        .email(inv.getArgument(0))
+                        .pointBalance(1_000_000_000)
+                        .build()));
+        service = new AuctionWebSocketServiceImpl(redis, userRepository, mock(AuctionRepository.class),
+                new PointHoldServiceImpl(redis), bidHistoryBuffer, new ProxyBidBook(100), liveStateStore, new BidMetrics(new SimpleMeterRegistry()),
+                mock(AuctionScheduler.class), new BidDeduplicator(600, 100));
+
+        startAuction(LocalDateTime.now().plusMinutes(30), 1000);
+    }
+
+    @Test
+    void 동시_입찰시_가격별_낙찰자는_정확히_한명() throws Exception {
+        int levels = 200;
+        int biddersPerLevel = 20;
+        ExecutorService pool = Executors.newFixedThreadPool(biddersPerLevel);
+        try {
+            for (int level = 1; level <= levels; level++) {
+                long price = 1000 + level * 10L;
+                CountDownLatch ready = new CountDownLatch(1);
+                List<Future<Boolean>> futures = new ArrayList<>();
+                for (int b = 0; b < biddersPerLevel; b++) {
+                    String bidder = "user" + b + "@exam.com";
+                    futures.add(pool.submit(() -> {
+                        ready.await();
+                        return tryBid(price, bidder);
+                    }));
+                }
+                ready.countDown();
+
+                int winners = 0;
+                for (Future<Boolean> f : futures) {
+                    if (f.get()) winners++;
+                }
+                assertThat(winners).as("price=%s", price).isEqualTo(1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(liveState().highestPrice()).isEqualTo(String.valueOf(1000 + levels * 10L));
+        // 낙찰 가능한 입찰만 이력 버퍼에 기록
+        assertThat(bidHistoryBuffer.size()).isEqualTo(levels);
+    }
+
+    @Test
+    void 가격이_뒤섞인_동시_입찰도_가격별_낙찰은_최대_한번() throws Exception {
+        int totalBids = 5000;
+        int threads = 32;
+        Map<Long, AtomicInteger> acceptedPerPrice = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < totalBids; i++) {
+                long price = 1001 + ThreadLocalRandom.current().nextInt(500);
+                String bidder = "user" + i + "@exam.com";
+                futures.add(pool.submit(() -> {
+                    ready.await();
+                    if (tryBid(price, bidder)) {
+                        acceptedPerPrice.computeIfAbsent(price, p -> new AtomicInteger()).incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            ready.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(acceptedPerPrice.values()).allSatisfy(c -> assertThat(c.get()).isEqualTo(1));
+        long maxAccepted = acceptedPerPrice.keySet().stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertThat(Long.parseLong(liveState().highestPrice())).isEqualTo(maxAccepted);
+    }
+
+    @Test
+    void 마감_3분_이내_입찰은_5분_연장() {
+        startAuction(LocalDateTime.now().plusMinutes(2), 1000);
+
+        BidResultDto result = service.placeBid(AUCTION_ID, 2000, "user1@exam.com");
+
+        assertThat(result.getNewEndTime()).isNotNull();
+        assertThat(LocalDateTime.parse(result.getNewEndTime()))
+                .isAfter(LocalDateTime.now().plusMinutes(4));
+        assertThat(liveState().endTime()).isEqualTo(result.getNewEndTime());
+        assertThat(liveState().highestBidder()).isEqualTo("user1@exam.com");
+        // 마감시각 인덱스도 같은 스크립트에서 갱신
+        assertThat(liveStateStore.getEndTimes().get(AUCTION_ID))
+                .isEqualTo(LocalDateTime.parse(result.getNewEndTime()));
+        assertThat(liveStateStore.findDueAuctionIds(LocalDateTime.now().plusMinutes(3))).doesNotContain(AUCTION_ID);
+    }
+
+    @Test
+    void 진행중이_아니거나_마감된_경매는_거절() {
+        redis.setHash(AuctionLiveStateStore.key(AUCTION_ID), Map.of(AuctionLiveStateStore.STATUS, "ENDED"));
+        assertThatThrownBy(() -> service.placeBid(AUCTION_ID, 2000, "user1@exam.com"))
+                .hasMessageContaining("진행중이 아니므로");
+
+        startAuction(LocalDateTime.now().minusSeconds(1), 1000);
+        assertThatThrownBy(() -> service.placeBid(AUCTION_ID, 2000, "user1@exam.com"))
+                .hasMessageContaining("이미 마감된");
+    }
+
+    @Test
+    void 미리_적재된_경매는_활성화_전까지_입찰_거절() {
+        long auctionId = 2L;
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(30);
+        AuctionLifecycleView auction =
+                new AuctionLifecycleView(auctionId, AuctionStatus.SCHEDULED, LocalDateTime.now(), endTime, 1000);
+
+        assertThat(liveStateStore.stage(auction)).isTrue();
+        assertThatThrownBy(() -> service.placeBid(auctionId, 2000, "user1@exam.com"))
+                .hasMessageContaining("진행중이 아니므로");
+        assertThat(liveStateStore.getEndTimes()).doesNotContainKey(auctionId);
+
+        // 적재 후 시작가 수정 → 활성화 시 시작 시점 DB 값으로 덮어씀
+        AuctionLifecycleView edited =
+                new AuctionLifecycleView(auctionId, AuctionStatus.SCHEDULED, LocalDateTime.now(), endTime, 1500);
+        assertThat(liveStateStore.activate(edited)).isEqualTo("WARM");
+        assertThat(liveStateStore.getEndTimes()).containsKey(auctionId);
+        assertThat(liveStateStore.get(auctionId).highestPrice()).isEqualTo("1500");
+        assertThatThrownBy(() -> service.placeBid(auctionId, 1200, "user1@exam.com"))
+                .hasMessageContaining("최고가보다 높아야");
+        assertThat(service.placeBid(auctionId, 2000, "user1@exam.com").isSuccess()).isTrue();
+
+        // 활성화 후에는 다시 적재/활성화해도 진행중 상태를 덮어쓰지 않음
+        assertThat(liveStateStore.stage(auction)).isFalse();
+        assertThat(liveStateStore.activate(auction)).isEqualTo("ACTIVE");
+        assertThat(liveStateStore.get(auctionId).highestPrice()).isEqualTo("2000");
+    }
+
+    @Test
+    void 여러_경매에_걸쳐_보류_포인트를_초과해_입찰할_수_없음() {
+        when(userRepository.findByEmail("buyer@exam.com"))
+                .thenReturn(Optional.of(User.builder().email("buyer@exam.com").pointBalance(10_000).build()));
+        long otherAuctionId = 2L;
+        startAuction(otherAuctionId, LocalDateTime.now().plusMinutes(30), 1000);
+
+        service.placeBid(AUCTION_ID, 8000, "buyer@exam.com");
+        assertThatThrownBy(() -> service.placeBid(otherAuctionId, 5000, "buyer@exam.com"))
+                .hasMessageContaining("포인트가 부족");
+
+        // 같은 경매 재입찰은 기존 보류를 대체
+        service.placeBid(AUCTION_ID, 9000, "buyer@exam.com");
+        assertThat(redis.getHash(PointRedisKeys.holdsKey("buyer@exam.com")))
+                .isEqualTo(Map.of(String.valueOf(AUCTION_ID), "9000"));
+
+        // 상회 입찰 당하면 보류 해제 → 다른 경매에 입찰 가능
+        service.placeBid(AUCTION_ID, 9500, "rival@exam.com");
+        assertThat(redis.getHash(PointRedisKeys.holdsKey("buyer@exam.com"))).isEmpty();
+        service.placeBid(otherAuctionId, 5000, "buyer@exam.com");
+
+        // 잔액은 처음 한 번만 DB에서 적재
+        verify(userRepository, times(1)).findByEmail("buyer@exam.com");
+    }
+
+    @Test
+    void 같은_입찰_ID_재전송은_다시_평가하지_않고_원래_결과_반환() {
+        BidResultDto first = service.placeBid(AUCTION_ID, 2000, "user1@exam.com", "bid-1");
+        service.placeBid(AUCTION_ID, 3000, "user2@exam.com");
+
+        // 재전송: 입찰 스크립트가 기록한 원래 결과 (현재 최고가 3000 과 무관, 재적용 없음)
+        assertThatThrownBy(() -> service.placeBid(AUCTION_ID, 2000, "user1@exam.com", "bid-1"))
+                .isInstanceOfSatisfying(DuplicateBidException.class, e -> {
+                    assertThat(e.getOutcome().result().getHighestPrice()).isEqualTo(first.getHighestPrice());
+                    assertThat(e.getOutcome().result().getBidderEmail()).isEqualTo("user1@exam.com");
+                });
+        assertThat(liveState().highestPrice()).isEqualTo("3000");
+        assertThat(bidHistoryBuffer.size()).isEqualTo(2);
+
+        // 거절된 입찰도 같은 거절 사유로 재응답
+        assertThatThrownBy(() -> service.placeBid(AUCTION_ID, 2500, "user1@exam.com", "bid-2"))
+                .hasMessageContaining("최고가보다 높아야");
+        assertThatThrownBy(() -> service.placeBid(AUCTION_ID, 5000, "user1@exam.com", "bid-2"))
+                .isInstanceOfSatisfying(DuplicateBidException.class,
+                        e -> assertThat(e.getOutcome().errorMessage()).contains("최고가보다 높아야"));
+    }
+
+    @Test
+    void 정산_후_잔액_캐시는_삭제되어_DB_잔액으로_재적재() {
+        when(userRepository.findByEmail("buyer@exam.com"))
+                .thenReturn(Optional.of(User.builder().email("buyer@exam.com").pointBalance(10_000).build()));
+        service.placeBid(AUCTION_ID, 8000, "buyer@exam.com");
+
+        // 정산 커밋(10000 → 2000) 후 캐시 반영 전에 다른 정산/충전의 커밋 후 작업이 먼저 실행되어도 잔액 값을 쓰지 않음
+        PointHoldServiceImpl pointHoldService = new PointHoldServiceImpl(redis);
+        pointHoldService.evictBalance("buyer@exam.com");
+        pointHoldService.settleHold("buyer@exam.com", AUCTION_ID);
+
+        assertThat(redis.getValue(PointRedisKeys.balanceKey("buyer@exam.com"))).isNull();
+        assertThat(redis.getHash(PointRedisKeys.holdsKey("buyer@exam.com"))).isEmpty();
+
+        // 다음 입찰에서 커밋된 DB 잔액으로 다시 적재
+        when(userRepository.findByEmail("buyer@exam.com"))
+                .thenReturn(Optional.of(User.builder().email("buyer@exam.com").pointBalance(2000).build()));
+        assertThatThrownBy(() -> service.placeBid(AUCTION_ID, 9000, "buyer@exam.com"))
+                .hasMessageContaining("포인트가 부족");
+        assertThat(redis.getValue(PointRedisKeys.balanceKey("buyer@exam.com"))).isEqualTo("2000");
+    }
+
+    @Test
+    void 자동입찰_경쟁은_한_번에_해소되고_상한가_2순위_증가분으로_낙찰() {
+        // 현재가 1000(입찰자 없음), A 상한 10000 등록 → 시작가 + 증가분으로 첫 입찰
+        BidResultDto afterRegister = service.registerProxyBid(AUCTION_ID, 10_000, "a@exam.com");
+        assertThat(afterRegister.getBidderEmail()).isEqualTo("a@exam.com");
+        assertThat(afterRegister.getHighestPrice()).isEqualTo(1100);
+
+        // 이미 최고입찰자인 A 가 상한만 올리면 입찰 없음
+        assertThat(service.registerProxyBid(AUCTION_ID, 10_000, "a@exam.com")).isNull();
+
+        // B 수동 입찰 5000 → A 가 5100 으로 자동 상회
+        BidResultDto afterManual = service.placeBid(AUCTION_ID, 5000, "b@exam.com");
+        assertThat(afterManual.getBidderEmail()).isEqualTo("a@exam.com");
+        assertThat(afterManual.getHighestPrice()).isEqualTo(5100);
+
+        // C 상한 8000 등록 → A 가 8100 으로 방어
+        BidResultDto afterProxy = service.registerProxyBid(AUCTION_ID, 8000, "c@exam.com");
+        assertThat(afterProxy.getBidderEmail()).isEqualTo("a@exam.com");
+        assertThat(afterProxy.getHighestPrice()).isEqualTo(8100);
+
+        // D 상한 20000 등록 → A 상한 10000 + 100 으로 D 낙찰
+        BidResultDto afterTakeover = service.registerProxyBid(AUCTION_ID, 20_000, "d@exam.com");
+        assertThat(afterTakeover.getBidderEmail()).isEqualTo("d@exam.com");
+        assertThat(afterTakeover.getHighestPrice()).isEqualTo(10_100);
+
+        assertThat(liveState().highestBidder()).isEqualTo("d@exam.com");
+        assertThat(redis.getHash(PointRedisKeys.holdsKey("a@exam.com"))).isEmpty();
+    }
+
+    @Test
+    void 포인트가_부족한_자동입찰은_해제되고_다음_상한가가_낙찰() {
+        when(userRepository.findByEmail("poor@exam.com"))
+                .thenReturn(Optional.of(User.builder().email("poor@exam.com").pointBalance(3000).build()));
+        service.registerProxyBid(AUCTION_ID, 50_000, "poor@exam.com");
+        service.registerProxyBid(AUCTION_ID, 6000, "rich@exam.com");
+
+        BidResultDto result = service.placeBid(AUCTION_ID, 2000, "manual@exam.com");
+
+        assertThat(result.getBidderEmail()).isEqualTo("rich@exam.com");
+        assertThat(result.getHighestPrice()).isEqualTo(2100);
+    }
+
+    private boolean tryBid(long price, String bidder) {
+        try {
+            return service.placeBid(AUCTION_ID, price, bidder).isSuccess();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void startAuction(LocalDateTime endTime, int startPrice) {
+        startAuction(AUCTION_ID, endTime, startPrice);
+    }
+
+    private void startAuction(long auctionId, LocalDateTime endTime, int startPrice) {
+        liveStateStore.init(Auction.builder()
+                .id(auctionId)
+                .startPrice(startPrice)
+                .endTime(endTime)
+                .build());
+    }
+
+    private AuctionLiveState liveState() {
+        return liveStateStore.get(AUCTION_ID);
+    }
+}
@@ -0,0 +1,303 @@
+package com.auction.back.support;
+
+import com.auction.back.global.redis.RedisService;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.Varargs;
+import org.luaj.vm2.lib.VarArgFunction;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 테스트용 인프로세스 Redis 대체품
+ * - 실제 Lua 스크립트를 LuaJ 로 실행하고, redis.call 은 메모리 저장소로 위임
+ * - Redis 와 동일하게 명령/스크립트는 한 번에 하나씩(직렬) 실행
+ * - 파이프라인은 EVAL/ZADD 만 지원 (모아 보내지 않고 바로 실행)
+ * - TTL 은 무시
+ */
+public class LuaRedisStandIn extends RedisService {
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Double>> sortedSets = new ConcurrentHashMap<>();
+    private final Map<String, LuaValue> compiledScripts = new ConcurrentHashMap<>();
+    private final Globals globals = JsePlatform.standardGlobals();
+
+    public LuaRedisStandIn() {
+        super(null);
+        LuaTable redis = new LuaTable();
+        redis.set("call", new VarArgFunction() {
+            @Override
+            public Varargs invoke(Varargs args) {
+                return redisCall(args);
+            }
+        });
+        globals.set("redis", redis);
+    }
+
+    @Override
+    public synchronized void setValue(String key, String value, long timeoutSeconds) {
+        strings.put(key, value);
+    }
+
+    @Override
+    public synchronized boolean setValueIfAbsent(String key, String value, long timeoutSeconds) {
+        return strings.putIfAbsent(key, value) == null;
+    }
+
+    @Override
+    public synchronized String getValue(String key) {
+        return strings.get(key);
+    }
+
+    @Override
+    public synchronized void deleteValue(String key) {
+        strings.remove(key);
+        hashes.remove(key);
+    }
+
+    @Override
+    public synchronized void setHash(String key, Map<String, String> fields) {
+        hashes.computeIfAbsent(key, k -> new LinkedHashMap<>()).putAll(fields);
+    }
+
+    @Override
+    public synchronized List<String> getHashValues(String key, List<String> fields) {
+        Map<String, String> hash = hashes.getOrDefault(key, Map.of());
+        List<String> values = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            values.add(hash.get(field));
+        }
+        return values;
+    }
+
+    @Override
+    public synchronized List<List<String>> getHashValuesPipelined(List<String> keys, List<String> fields) {
+        List<List<String>> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            values.add(getHashValues(key, fields));
+        }
+        return values;
+    }
+
+    @Override
+    public void expireAt(String key, Instant expireAt) {
+    }
+
+    @Override
+    public synchronized void addToSortedSet(String key, String member, double score) {
+        sortedSets.computeIfAbsent(key, k -> new HashMap<>()).put(member, score);
+    }
+
+    @Override
+    public synchronized void removeFromSortedSet(String key, String member) {
+        sortedSets.getOrDefault(key, new HashMap<>()).remove(member);
+    }
+
+    @Override
+    public synchronized Set<String> getSortedSetRangeByScore(String key, double min, double max) {
+        Set<String> members = new LinkedHashSet<>();
+        getSortedSetWithScores(key).forEach((member, score) -> {
+            if (score >= min && score <= max) members.add(member);
+        });
+        return members;
+    }
+
+    @Override
+    public synchronized Map<String, Double> getSortedSetWithScores(String key) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        sortedSets.getOrDefault(key, Map.of()).entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    // 테스트 검증용 해시 조회
+    public synchronized Map<String, String> getHash(String key) {
+        return Map.copyOf(hashes.getOrDefault(key, Map.of()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        return (T) runScript(script.getScriptAsString(), keys, List.of(args));
+    }
+
+    /**
+     * 파이프라인 대체: 명령을 바로 실행 (EVAL, ZADD 만 지원)
+     */
+    @Override
+    public synchronized void executePipelined(Consumer<RedisConnection> commands) {
+        RedisScriptingCommands scripting = mock(RedisScriptingCommands.class, invocation -> {
+            if (!"eval".equals(invocation.getMethod().getName())) {
+                throw new UnsupportedOperationException("지원하지 않는 명령: " + invocation.getMethod().getName());
+            }
+            Object[] raw = invocation.getArguments();
+            int numKeys = (Integer) raw[2];
+            List<String> keysAndArgs = new ArrayList<>();
+            for (int i = 3; i < raw.length; i++) {
+                if (raw[i] instanceof byte[][] varargs) {
+                    for (byte[] value : varargs) {
+                        keysAndArgs.add(string(value));
+                    }
+                } else {
+                    keysAndArgs.add(string((byte[]) raw[i]));
+                }
+            }
+            runScript(string((byte[]) raw[0]), keysAndArgs.subList(0, numKeys),
+                    keysAndArgs.subList(numKeys, keysAndArgs.size()));
+            return null;
+        });
+        RedisZSetCommands zSet = mock(RedisZSetCommands.class, invocation -> {
+            if (!"zAdd".equals(invocation.getMethod().getName()) || invocation.getArguments().length != 3) {
+                throw new UnsupportedOperationException("지원하지 않는 명령: " + invocation.getMethod().getName());
+            }
+            Object[] raw = invocation.getArguments();
+            sortedSets.computeIfAbsent(string((byte[]) raw[0]), k -> new HashMap<>())
+                    .put(string((byte[]) raw[2]), (Double) raw[1]);
+            return true;
+        });
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.scriptingCommands()).thenReturn(scripting);
+        when(connection.zSetCommands()).thenReturn(zSet);
+        commands.accept(connection);
+    }
+
+    private Object runScript(String script, List<String> keys, List<String> args) {
+        LuaValue chunk = compiledScripts.computeIfAbsent(script, text -> globals.load(text, "script"));
+
+        LuaTable keyTable = new LuaTable();
+        for (int i = 0; i < keys.size(); i++) {
+            keyTable.set(i + 1, LuaValue.valueOf(keys.get(i)));
+        }
+        LuaTable argTable = new LuaTable();
+        for (int i = 0; i < args.size(); i++) {
+            argTable.set(i + 1, LuaValue.valueOf(args.get(i)));
+        }
+        globals.set("KEYS", keyTable);
+        globals.set("ARGV", argTable);
+
+        return toJava(chunk.call());
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    // redis.call(...) 명령 처리
+    private Varargs redisCall(Varargs args) {
+        String command = args.arg1().tojstring().toUpperCase();
+        String key = args.arg(2).tojstring();
+        switch (command) {
+            case "GET": {
+                String value = strings.get(key);
+                return value == null ? LuaValue.FALSE : LuaValue.valueOf(value);
+            }
+            case "SET":
+                strings.put(key, args.arg(3).tojstring());
+                return LuaValue.valueOf("OK");
+            case "DEL": {
+                boolean removed = strings.remove(key) != null | hashes.remove(key) != null;
+                return LuaValue.valueOf(removed ? 1 : 0);
+            }
+            case "EXISTS":
+                return LuaValue.valueOf(strings.containsKey(key) || hashes.containsKey(key) ? 1 : 0);
+            case "INCRBY":
+            case "DECRBY": {
+                long delta = Long.parseLong(args.arg(3).tojstring());
+                long value = Long.parseLong(strings.getOrDefault(key, "0")) + ("INCRBY".equals(command) ? delta : -delta);
+                strings.put(key, String.valueOf(value));
+                return LuaValue.valueOf(value);
+            }
+            case "HGET": {
+                String value = hashes.getOrDefault(key, Map.of()).get(args.arg(3).tojstring());
+                return value == null ? LuaValue.FALSE : LuaValue.valueOf(value);
+            }
+            case "HSET": {
+                Map<String, String> hash = hashes.computeIfAbsent(key, k -> new LinkedHashMap<>());
+                int added = 0;
+                for (int i = 3; i < args.narg(); i += 2) {
+                    if (hash.put(args.arg(i).tojstring(), args.arg(i + 1).tojstring()) == null) added++;
+                }
+                return LuaValue.valueOf(added);
+            }
+            case "HDEL": {
+                Map<String, String> hash = hashes.get(key);
+                int removed = 0;
+                for (int i = 3; hash != null && i <= args.narg(); i++) {
+                    if (hash.remove(args.arg(i).tojstring()) != null) removed++;
+                }
+                if (hash != null && hash.isEmpty()) hashes.remove(key);
+                return LuaValue.valueOf(removed);
+            }
+            case "HMGET": {
+                Map<String, String> hash = hashes.getOrDefault(key, Map.of());
+                LuaTable table = new LuaTable();
+                for (int i = 3; i <= args.narg(); i++) {
+                    String value = hash.get(args.arg(i).tojstring());
+                    table.set(i - 2, value == null ? LuaValue.FALSE : LuaValue.valueOf(value));
+                }
+                return table;
+            }
+            case "ZADD": {
+                Map<String, Double> zset = sortedSets.computeIfAbsent(key, k -> new HashMap<>());
+                int added = 0;
+                for (int i = 3; i < args.narg(); i += 2) {
+                    if (zset.put(args.arg(i + 1).tojstring(), Double.parseDouble(args.arg(i).tojstring())) == null) added++;
+                }
+                return LuaValue.valueOf(added);
+            }
+            case "PEXPIREAT":
+                return LuaValue.valueOf(strings.containsKey(key) || hashes.containsKey(key) ? 1 : 0);
+            case "HGETALL": {
+                LuaTable table = new LuaTable();
+                int i = 1;
+                for (Map.Entry<String, String> e : hashes.getOrDefault(key, Map.of()).entrySet()) {
+                    table.set(i++, LuaValue.valueOf(e.getKey()));
+                    table.set(i++, LuaValue.valueOf(e.getValue()));
+                }
+                return table;
+            }
+            default:
+                throw new UnsupportedOperationException("지원하지 않는 명령: " + command);
+        }
+    }
+
+    // Lua 반환값 → Java (Redis 응답 변환 규칙과 동일: table → List, number → Long)
+    private Object toJava(LuaValue value) {
+        switch (value.type()) {
+            case LuaValue.TTABLE: {
+                List<Object> list = new ArrayList<>();
+                for (int i = 1; i <= value.length(); i++) {
+                    list.add(toJava(value.get(i)));
+                }
+                return list;
+            }
+            case LuaValue.TNUMBER:
+                return value.tolong();
+            case LuaValue.TSTRING:
+                return value.tojstring();
+            default:
+                return null;
+        }
+    }
+}